@@ -0,0 +1,113 @@
+package simple;
+
+import java.util.*;
+
+public class AnalyticSimulator {
+
+    private final Workload workload;
+    private final double submitTime;
+
+    public AnalyticSimulator(Workload workload) {
+        this(workload, 0.1);
+    }
+
+    public AnalyticSimulator(Workload workload, double submitTime) {
+        this.workload = workload;
+        this.submitTime = submitTime;
+    }
+
+    public ExecutionTrace simulate(int[] genome) {
+        boolean[] placed = new boolean[workload.vmCount()];
+        Arrays.fill(placed, true);
+        return simulate(genome, placed);
+    }
+
+    public ExecutionTrace simulate(int[] genome, boolean[] placed) {
+        int n = workload.cloudletCount();
+        int vmCount = workload.vmCount();
+        int[] order = workload.lengthOrder();
+
+        int[] start = new int[vmCount + 1];
+        int runnable = 0;
+        for (int c = 0; c < n; c++) {
+            if (placed[genome[c]]) {
+                start[genome[c] + 1]++;
+                runnable++;
+            }
+        }
+        for (int v = 0; v < vmCount; v++) start[v + 1] += start[v];
+
+        int[] bucket = new int[runnable];
+        int[] next = Arrays.copyOf(start, vmCount);
+        for (int c : order) {
+            if (placed[genome[c]]) bucket[next[genome[c]]++] = c;
+        }
+
+        ExecutionTrace trace = new ExecutionTrace(runnable, runnable);
+        int i = 0;
+        for (int v = 0; v < vmCount; v++) {
+            int active = start[v + 1] - start[v];
+            double mips = workload.mips[v];
+            double clock = submitTime;
+            double done = 0;
+            for (int k = start[v]; k < start[v + 1]; k++, active--) {
+                int c = bucket[k];
+                clock += (workload.length[c] - done) * active / mips;
+                done = workload.length[c];
+
+                trace.cloudletId[i] = workload.cloudletIds[c];
+                trace.vmIndex[i] = v;
+                trace.startTime[i] = submitTime;
+                trace.finishTime[i] = clock;
+                trace.cpuTime[i] = clock - submitTime;
+                trace.waitTime[i] = 0;
+                i++;
+            }
+        }
+        return trace;
+    }
+
+    public static void validate(ExecutionTrace analytic, TSA.SimulationResult analyticResult,
+                                ExecutionTrace cloudsim, TSA.SimulationResult cloudsimResult) {
+        System.out.println("\n=== Validasi simulator analitik terhadap CloudSim ===");
+        System.out.printf("%-25s %-18s %-18s %-15s%n", "Metrik", "Analitik", "CloudSim", "Selisih relatif");
+        row("Jumlah selesai", analytic.finishedCount, cloudsim.finishedCount);
+        row("Total CPU Time", analyticResult.totalCpuTime, cloudsimResult.totalCpuTime);
+        row("Total Wait Time", analyticResult.totalWaitTime, cloudsimResult.totalWaitTime);
+        row("Avg Start Time", analyticResult.avgStartTime, cloudsimResult.avgStartTime);
+        row("Avg Exec Time", analyticResult.avgExecTime, cloudsimResult.avgExecTime);
+        row("Avg Finish Time", analyticResult.avgFinishTime, cloudsimResult.avgFinishTime);
+        row("Throughput", analyticResult.throughput, cloudsimResult.throughput);
+        row("Makespan", analyticResult.makespan, cloudsimResult.makespan);
+        row("Imbalance Degree", analyticResult.imbalanceDegree, cloudsimResult.imbalanceDegree);
+        row("Resource Utilization", analyticResult.resourceUtilization, cloudsimResult.resourceUtilization);
+        row("Total Energy", analyticResult.totalEnergyConsumption, cloudsimResult.totalEnergyConsumption);
+
+        Map<Integer, Double> finishById = new HashMap<>();
+        for (int i = 0; i < cloudsim.size; i++) {
+            finishById.put(cloudsim.cloudletId[i], cloudsim.finishTime[i]);
+        }
+        double maxDiff = 0;
+        int worst = -1;
+        int missing = 0;
+        for (int i = 0; i < analytic.size; i++) {
+            Double expected = finishById.get(analytic.cloudletId[i]);
+            if (expected == null) {
+                missing++;
+                continue;
+            }
+            double diff = Math.abs(analytic.finishTime[i] - expected);
+            if (diff > maxDiff) {
+                maxDiff = diff;
+                worst = analytic.cloudletId[i];
+            }
+        }
+        System.out.printf("Selisih finish time maksimum: %.4f (cloudlet %d), tidak ditemukan di CloudSim: %d%n",
+                maxDiff, worst, missing);
+    }
+
+    private static void row(String name, double analytic, double cloudsim) {
+        double rel = cloudsim == 0 ? (analytic == 0 ? 0 : Double.POSITIVE_INFINITY) : Math.abs(analytic - cloudsim) / Math.abs(cloudsim);
+        System.out.printf("%-25s %-18.4f %-18.4f %-15.6f%n", name, analytic, cloudsim, rel);
+    }
+}
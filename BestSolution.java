@@ -0,0 +1,14 @@
+package simple;
+
+public final class BestSolution {
+
+    static final BestSolution NONE = new BestSolution(null, Double.MAX_VALUE);
+
+    public final int[] genome;
+    public final double fitness;
+
+    BestSolution(int[] genome, double fitness) {
+        this.genome = genome;
+        this.fitness = fitness;
+    }
+}
@@ -0,0 +1,87 @@
+package simple;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+
+final class Checkpoint {
+
+    static final int MAGIC = 0x54534332;
+    static final int HEADER_BYTES = 60;
+
+    final long fingerprint;
+    final long masterSeed;
+    final int iteration;
+    final long evaluations;
+    final int stagnant;
+    final double bestFitness;
+    final int populationSize;
+    final int cloudletCount;
+    final int vmCount;
+    final int width;
+    final double[] fitness;
+    final boolean[] dirty;
+    final double[][] loads;
+    final ByteBuffer bestGenes;
+    final ByteBuffer[] genes;
+
+    private Checkpoint(ByteBuffer header, FileChannel channel, Path path) throws IOException {
+        fingerprint = header.getLong();
+        masterSeed = header.getLong();
+        iteration = header.getInt();
+        evaluations = header.getLong();
+        stagnant = header.getInt();
+        bestFitness = header.getDouble();
+        populationSize = header.getInt();
+        cloudletCount = header.getInt();
+        vmCount = header.getInt();
+        width = header.getInt();
+
+        long metaBytes = metaBytes(populationSize, vmCount);
+        long genomeBytes = (long) cloudletCount * width;
+        if (channel.size() != HEADER_BYTES + metaBytes + (populationSize + 1L) * genomeBytes) {
+            throw new IOException("Ukuran checkpoint tidak sesuai: " + path);
+        }
+
+        ByteBuffer meta = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES, metaBytes)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        fitness = new double[populationSize];
+        dirty = new boolean[populationSize];
+        loads = new double[populationSize][vmCount];
+        for (int i = 0; i < populationSize; i++) {
+            fitness[i] = meta.getDouble();
+            dirty[i] = meta.get() != 0;
+            meta.asDoubleBuffer().get(loads[i]);
+            meta.position(meta.position() + vmCount * Double.BYTES);
+        }
+
+        long offset = HEADER_BYTES + metaBytes;
+        bestGenes = channel.map(FileChannel.MapMode.READ_ONLY, offset, genomeBytes).order(ByteOrder.LITTLE_ENDIAN);
+        genes = new ByteBuffer[populationSize];
+        for (int i = 0; i < populationSize; i++) {
+            offset += genomeBytes;
+            genes[i] = channel.map(FileChannel.MapMode.READ_ONLY, offset, genomeBytes).order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    static Checkpoint read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES) throw new IOException("Bukan file checkpoint TSA: " + path);
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            if (header.getInt() != MAGIC) throw new IOException("Bukan file checkpoint TSA: " + path);
+            return new Checkpoint(header, channel, path);
+        }
+    }
+
+    static long metaBytes(int populationSize, int vmCount) {
+        return (long) populationSize * (Double.BYTES + 1 + (long) vmCount * Double.BYTES);
+    }
+
+    int[] bestGenome() {
+        int[] genome = new int[cloudletCount];
+        GeneStore.of(genome).readFrom(bestGenes, width);
+        return genome;
+    }
+}
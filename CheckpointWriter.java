@@ -0,0 +1,125 @@
+package simple;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.concurrent.*;
+
+final class CheckpointWriter implements AutoCloseable {
+
+    private final Path path;
+    private final Path temp;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "tsa-checkpoint");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private Future<?> pending;
+    private ByteBuffer[] staging;
+    private int lastIteration = -1;
+    private long written;
+    private long skipped;
+
+    CheckpointWriter(Path path) {
+        this.path = path;
+        this.temp = path.resolveSibling(path.getFileName() + ".tmp");
+    }
+
+    boolean offer(long fingerprint, long masterSeed, int iteration, long evaluations, int stagnant, double bestFitness,
+                  int[] bestGenome, Individual[] population, int vmCount) {
+        if (pending != null && !pending.isDone()) {
+            skipped++;
+            return false;
+        }
+        collect();
+
+        int n = bestGenome.length;
+        int width = PackedPopulation.widthFor(vmCount);
+        int size = population.length;
+        prepareStaging(size, n, width, vmCount);
+
+        ByteBuffer header = staging[0].clear();
+        header.putInt(Checkpoint.MAGIC).putLong(fingerprint).putLong(masterSeed).putInt(iteration).putLong(evaluations)
+                .putInt(stagnant).putDouble(bestFitness).putInt(size).putInt(n).putInt(vmCount).putInt(width);
+        for (Individual individual : population) {
+            header.putDouble(individual.fitness).put((byte) (individual.dirty ? 1 : 0));
+            for (double load : individual.loads.loads()) header.putDouble(load);
+        }
+        header.flip();
+
+        GeneStore.of(bestGenome).writeTo(staging[1].clear(), width);
+        for (int i = 0; i < size; i++) {
+            population[i].genes.writeTo(staging[i + 2].clear(), width);
+        }
+
+        lastIteration = iteration;
+        pending = executor.submit(() -> {
+            write();
+            return null;
+        });
+        return true;
+    }
+
+    int lastIteration() {
+        return lastIteration;
+    }
+
+    long written() {
+        return written;
+    }
+
+    long skipped() {
+        return skipped;
+    }
+
+    void flush() {
+        collect();
+    }
+
+    @Override
+    public void close() {
+        collect();
+        executor.shutdown();
+    }
+
+    private void prepareStaging(int size, int n, int width, int vmCount) {
+        int headerBytes = (int) (Checkpoint.HEADER_BYTES + Checkpoint.metaBytes(size, vmCount));
+        if (staging != null && staging.length == size + 2
+                && staging[0].capacity() == headerBytes && staging[1].capacity() == n * width) {
+            return;
+        }
+        staging = new ByteBuffer[size + 2];
+        staging[0] = ByteBuffer.allocate(headerBytes).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 1; i < staging.length; i++) {
+            staging[i] = ByteBuffer.allocateDirect(n * width).order(ByteOrder.LITTLE_ENDIAN);
+        }
+    }
+
+    private void write() throws IOException {
+        for (int i = 1; i < staging.length; i++) staging[i].clear();
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            long remaining = 0;
+            for (ByteBuffer buffer : staging) remaining += buffer.remaining();
+            while (remaining > 0) remaining -= channel.write(staging);
+            channel.force(true);
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void collect() {
+        if (pending == null) return;
+        try {
+            pending.get();
+            written++;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            System.err.println("⚠️ Gagal menulis checkpoint " + path + ": " + e.getCause());
+        }
+        pending = null;
+    }
+}
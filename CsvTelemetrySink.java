@@ -0,0 +1,50 @@
+package simple;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.Locale;
+
+public class CsvTelemetrySink implements OptimizationListener, Closeable {
+
+    private final BufferedWriter out;
+
+    public CsvTelemetrySink(Path path) throws IOException {
+        this(Files.newBufferedWriter(path));
+    }
+
+    public CsvTelemetrySink(Writer writer) throws IOException {
+        this.out = writer instanceof BufferedWriter ? (BufferedWriter) writer : new BufferedWriter(writer);
+        out.write("iteration,best_fitness,generation_best_fitness,mean_fitness,diversity,evaluations,"
+                + "fitness_computations,generation_fitness_computations,evaluations_per_second,"
+                + "evaluate_ns,local_search_ns,mutation_ns,rf_prediction_ns,allocated_bytes");
+        out.newLine();
+    }
+
+    @Override
+    public void onIteration(IterationEvent e) {
+        try {
+            out.write(String.format(Locale.ROOT, "%d,%.6f,%.6f,%.6f,%.4f,%d,%d,%d,%.1f,%d,%d,%d,%d,%d",
+                    e.iteration, e.bestFitness, e.generationBestFitness, e.meanFitness, e.diversity,
+                    e.evaluations, e.fitnessComputations, e.generationFitnessComputations,
+                    e.evaluationsPerSecond(), e.evaluateNanos, e.localSearchNanos,
+                    e.mutationNanos, e.rfPredictionNanos, e.allocatedBytes));
+            out.newLine();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public void onComplete(StopCriteria.Reason reason) {
+        try {
+            out.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
@@ -0,0 +1,184 @@
+package simple;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.Arrays;
+
+public final class DatasetLoader {
+
+    private static final long MAGIC = 0x534F4B4144415431L;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 40;
+    private static final int CHUNK_BYTES = 1 << 30;
+    private static final double[] POW10 = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private DatasetLoader() {
+    }
+
+    public static double[] load(String path) throws IOException {
+        Path source = Paths.get(path);
+        if (!Files.exists(source)) throw new FileNotFoundException("Dataset file not found: " + path);
+
+        Path cache = cachePath(source);
+        long size = Files.size(source);
+        long modified = Files.getLastModifiedTime(source).toMillis();
+
+        double[] data = readCache(cache, size, modified);
+        if (data == null) {
+            data = parseText(source);
+            try {
+                writeCache(cache, size, modified, data);
+            } catch (IOException e) {
+                System.out.println("Cache biner tidak dapat ditulis: " + e.getMessage());
+            }
+        }
+        return data;
+    }
+
+    static Path cachePath(Path source) {
+        return source.resolveSibling(source.getFileName() + ".bin");
+    }
+
+    static double[] parseText(Path source) throws IOException {
+        DoubleArray out = new DoubleArray();
+        try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                long length = Math.min(CHUNK_BYTES, size - position);
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                int end = (int) length;
+                if (position + length < size) {
+                    while (end > 0 && !isSeparator(buffer.get(end - 1))) end--;
+                    if (end == 0) throw new IOException("Baris terlalu panjang di posisi " + position);
+                }
+                parse(buffer, end, out);
+                position += end;
+            }
+        }
+        return out.toArray();
+    }
+
+    private static void parse(ByteBuffer buffer, int end, DoubleArray out) {
+        int i = 0;
+        while (i < end) {
+            byte b = buffer.get(i);
+            if (isSeparator(b)) {
+                i++;
+                continue;
+            }
+            int start = i;
+            boolean negative = false;
+            if (b == '-' || b == '+') {
+                negative = b == '-';
+                i++;
+            }
+            long mantissa = 0;
+            int digits = 0;
+            int scale = 0;
+            boolean anyDigit = false;
+            boolean fast = true;
+            boolean fraction = false;
+            while (i < end) {
+                b = buffer.get(i);
+                if (b >= '0' && b <= '9') {
+                    anyDigit = true;
+                    if (digits < 18) {
+                        mantissa = mantissa * 10 + (b - '0');
+                        if (mantissa != 0) digits++;
+                        if (fraction) scale++;
+                    } else {
+                        fast = false;
+                    }
+                } else if (b == '.' && !fraction) {
+                    fraction = true;
+                } else if (isSeparator(b)) {
+                    break;
+                } else {
+                    fast = false;
+                }
+                i++;
+            }
+            if (fast && anyDigit && digits <= 15 && scale < POW10.length) {
+                double value = scale == 0 ? mantissa : mantissa / POW10[scale];
+                out.add(negative ? -value : value);
+            } else {
+                byte[] text = new byte[i - start];
+                for (int k = 0; k < text.length; k++) text[k] = buffer.get(start + k);
+                out.add(Double.parseDouble(new String(text, java.nio.charset.StandardCharsets.US_ASCII).trim()));
+            }
+        }
+    }
+
+    private static boolean isSeparator(byte b) {
+        return b == '\n' || b == '\r' || b == ' ' || b == '\t';
+    }
+
+    private static double[] readCache(Path cache, long sourceSize, long sourceModified) throws IOException {
+        if (!Files.exists(cache)) return null;
+        try (FileChannel channel = FileChannel.open(cache, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES) return null;
+            ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            if (header.getLong() != MAGIC || header.getInt() != VERSION) return null;
+            header.getInt();
+            if (header.getLong() != sourceSize || header.getLong() != sourceModified) return null;
+            long count = header.getLong();
+            if (count > Integer.MAX_VALUE || channel.size() != HEADER_BYTES + count * Double.BYTES) return null;
+
+            double[] data = new double[(int) count];
+            int offset = 0;
+            long position = HEADER_BYTES;
+            while (offset < data.length) {
+                int n = Math.min(data.length - offset, CHUNK_BYTES / Double.BYTES);
+                DoubleBuffer values = channel.map(FileChannel.MapMode.READ_ONLY, position, (long) n * Double.BYTES)
+                        .order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+                values.get(data, offset, n);
+                offset += n;
+                position += (long) n * Double.BYTES;
+            }
+            return data;
+        }
+    }
+
+    private static void writeCache(Path cache, long sourceSize, long sourceModified, double[] data) throws IOException {
+        Path tmp = cache.resolveSibling(cache.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putLong(MAGIC).putInt(VERSION).putInt(0)
+                    .putLong(sourceSize).putLong(sourceModified).putLong(data.length).flip();
+            while (header.hasRemaining()) channel.write(header);
+
+            ByteBuffer block = ByteBuffer.allocateDirect(1 << 20).order(ByteOrder.LITTLE_ENDIAN);
+            int offset = 0;
+            while (offset < data.length) {
+                int n = Math.min(data.length - offset, block.capacity() / Double.BYTES);
+                block.clear();
+                block.asDoubleBuffer().put(data, offset, n);
+                block.limit(n * Double.BYTES);
+                while (block.hasRemaining()) channel.write(block);
+                offset += n;
+            }
+        }
+        Files.move(tmp, cache, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static final class DoubleArray {
+        private double[] values = new double[1024];
+        private int size;
+
+        void add(double value) {
+            if (size == values.length) values = Arrays.copyOf(values, values.length * 2);
+            values[size++] = value;
+        }
+
+        double[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package simple;
+
+import java.util.*;
+import org.cloudbus.cloudsim.Cloudlet;
+import org.cloudbus.cloudsim.Vm;
+
+public final class ExecutionTrace {
+
+    final int finishedCount;
+    final int size;
+    final int[] cloudletId;
+    final int[] vmIndex;
+    final double[] startTime;
+    final double[] finishTime;
+    final double[] cpuTime;
+    final double[] waitTime;
+
+    ExecutionTrace(int finishedCount, int size) {
+        this.finishedCount = finishedCount;
+        this.size = size;
+        this.cloudletId = new int[size];
+        this.vmIndex = new int[size];
+        this.startTime = new double[size];
+        this.finishTime = new double[size];
+        this.cpuTime = new double[size];
+        this.waitTime = new double[size];
+    }
+
+    public static ExecutionTrace of(List<? extends Cloudlet> finishedCloudlets, List<Vm> vms) {
+        Map<Integer, Integer> indexById = new HashMap<>();
+        for (int v = 0; v < vms.size(); v++) {
+            indexById.put(vms.get(v).getId(), v);
+        }
+
+        int success = 0;
+        for (Cloudlet cloudlet : finishedCloudlets) {
+            if (cloudlet.getCloudletStatus() == Cloudlet.SUCCESS) success++;
+        }
+
+        ExecutionTrace trace = new ExecutionTrace(finishedCloudlets.size(), success);
+        int i = 0;
+        for (Cloudlet cloudlet : finishedCloudlets) {
+            if (cloudlet.getCloudletStatus() != Cloudlet.SUCCESS) continue;
+            trace.cloudletId[i] = cloudlet.getCloudletId();
+            trace.vmIndex[i] = indexById.getOrDefault(cloudlet.getVmId(), -1);
+            trace.startTime[i] = cloudlet.getExecStartTime();
+            trace.finishTime[i] = cloudlet.getFinishTime();
+            trace.cpuTime[i] = cloudlet.getActualCPUTime();
+            trace.waitTime[i] = cloudlet.getWaitingTime();
+            i++;
+        }
+        return trace;
+    }
+
+    public int size() {
+        return size;
+    }
+}
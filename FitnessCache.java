@@ -0,0 +1,25 @@
+package simple;
+
+import java.util.*;
+
+class FitnessCache {
+
+    private final Map<Long, Double> entries;
+
+    FitnessCache(int capacity) {
+        this.entries = new LinkedHashMap<Long, Double>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Double> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    synchronized Double get(long hash) {
+        return entries.get(hash);
+    }
+
+    synchronized void put(long hash, double fitness) {
+        entries.put(hash, fitness);
+    }
+}
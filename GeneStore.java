@@ -0,0 +1,72 @@
+package simple;
+
+import java.nio.ByteBuffer;
+
+interface GeneStore {
+
+    int length();
+
+    int get(int cloudlet);
+
+    void set(int cloudlet, int vm);
+
+    default void copyFrom(GeneStore source) {
+        for (int c = 0; c < length(); c++) set(c, source.get(c));
+    }
+
+    default void writeTo(ByteBuffer target, int width) {
+        for (int c = 0; c < length(); c++) PackedPopulation.put(target, c, get(c), width);
+    }
+
+    default void readFrom(ByteBuffer source, int width) {
+        for (int c = 0; c < length(); c++) set(c, PackedPopulation.get(source, c, width));
+    }
+
+    default int[] toArray() {
+        int[] genes = new int[length()];
+        for (int c = 0; c < genes.length; c++) genes[c] = get(c);
+        return genes;
+    }
+
+    static GeneStore of(int[] genes) {
+        return new Array(genes);
+    }
+
+    final class Array implements GeneStore {
+
+        private final int[] genes;
+
+        private Array(int[] genes) {
+            this.genes = genes;
+        }
+
+        @Override
+        public int length() {
+            return genes.length;
+        }
+
+        @Override
+        public int get(int cloudlet) {
+            return genes[cloudlet];
+        }
+
+        @Override
+        public void set(int cloudlet, int vm) {
+            genes[cloudlet] = vm;
+        }
+
+        @Override
+        public void copyFrom(GeneStore source) {
+            if (source instanceof Array) {
+                System.arraycopy(((Array) source).genes, 0, genes, 0, genes.length);
+            } else {
+                GeneStore.super.copyFrom(source);
+            }
+        }
+
+        @Override
+        public int[] toArray() {
+            return genes.clone();
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package simple;
+
+import org.cloudbus.cloudsim.*;
+import java.util.*;
+
+public class IndexedVmAllocationPolicy extends VmAllocationPolicy {
+
+    private final List<Host> hosts;
+    private final Map<Host, Integer> hostIndex;
+    private final int[] pes;
+    private final double[] peMips;
+    private final double[] freeMips;
+    private final long[] freeRam;
+    private final long[] freeBw;
+    private final long[] freeStorage;
+    private final Comparator<Integer> mostFreeMips;
+    private final TreeMap<Double, TreeMap<Long, TreeSet<Integer>>> availableByPeMips = new TreeMap<>();
+
+    private final Map<String, Integer> planned = new HashMap<>();
+    private final Map<String, Host> vmTable = new HashMap<>();
+    private final List<Vm> rejected = new ArrayList<>();
+    private final Map<String, Long> unplaceableShapes = new HashMap<>();
+    private long releases;
+
+    public IndexedVmAllocationPolicy(List<? extends Host> list) {
+        super(list);
+        hosts = new ArrayList<>(list);
+        int n = hosts.size();
+        hostIndex = new IdentityHashMap<>(n);
+        pes = new int[n];
+        peMips = new double[n];
+        freeMips = new double[n];
+        freeRam = new long[n];
+        freeBw = new long[n];
+        freeStorage = new long[n];
+        mostFreeMips = (a, b) -> {
+            if (freeMips[a] != freeMips[b]) return Double.compare(freeMips[b], freeMips[a]);
+            if (freeRam[a] != freeRam[b]) return Long.compare(freeRam[b], freeRam[a]);
+            return Integer.compare(a, b);
+        };
+
+        for (int h = 0; h < n; h++) {
+            Host host = hosts.get(h);
+            hostIndex.put(host, h);
+            pes[h] = host.getNumberOfPes();
+            freeMips[h] = host.getTotalMips();
+            peMips[h] = pes[h] == 0 ? 0 : freeMips[h] / pes[h];
+            freeRam[h] = host.getRam();
+            freeBw[h] = host.getBw();
+            freeStorage[h] = host.getStorage();
+            availableByPeMips.computeIfAbsent(peMips[h], k -> new TreeMap<>());
+            index(h);
+        }
+    }
+
+    public List<Vm> plan(List<Vm> vms) {
+        for (Vm vm : vms) {
+            if (planned.containsKey(vm.getUid()) || vmTable.containsKey(vm.getUid())) continue;
+            int h = reserve(vm, false);
+            if (h < 0) rejected.add(vm);
+            else planned.put(vm.getUid(), h);
+        }
+        return getRejectedVms();
+    }
+
+    public boolean isPlaced(Vm vm) {
+        return planned.containsKey(vm.getUid()) || vmTable.containsKey(vm.getUid());
+    }
+
+    public List<Vm> getRejectedVms() {
+        return Collections.unmodifiableList(rejected);
+    }
+
+    @Override
+    public boolean allocateHostForVm(Vm vm) {
+        String uid = vm.getUid();
+        if (vmTable.containsKey(uid)) return true;
+
+        Integer h = planned.remove(uid);
+        if (h != null) {
+            Host host = hosts.get(h);
+            if (host.vmCreate(vm)) {
+                vmTable.put(uid, host);
+                return true;
+            }
+            release(h, vm);
+        }
+
+        int chosen = reserve(vm, true);
+        if (chosen < 0) return false;
+        vmTable.put(uid, hosts.get(chosen));
+        return true;
+    }
+
+    @Override
+    public boolean allocateHostForVm(Vm vm, Host host) {
+        Integer h = hostIndex.get(host);
+        if (h == null || !host.vmCreate(vm)) return false;
+        Integer previous = planned.remove(vm.getUid());
+        if (previous != null) release(previous, vm);
+        take(h, vm);
+        vmTable.put(vm.getUid(), host);
+        return true;
+    }
+
+    @Override
+    public List<Map<String, Object>> optimizeAllocation(List<? extends Vm> vmList) {
+        return null;
+    }
+
+    @Override
+    public void deallocateHostForVm(Vm vm) {
+        Host host = vmTable.remove(vm.getUid());
+        if (host == null) return;
+        host.vmDestroy(vm);
+        release(hostIndex.get(host), vm);
+    }
+
+    @Override
+    public Host getHost(Vm vm) {
+        return vmTable.get(vm.getUid());
+    }
+
+    @Override
+    public Host getHost(int vmId, int userId) {
+        return vmTable.get(Vm.getUid(userId, vmId));
+    }
+
+    private int reserve(Vm vm, boolean create) {
+        String shape = vm.getNumberOfPes() + "/" + vm.getMips() + "/" + vm.getRam() + "/" + vm.getBw() + "/" + vm.getSize();
+        Long rejectedAt = unplaceableShapes.get(shape);
+        if (rejectedAt != null && rejectedAt == releases) return -1;
+
+        double required = vm.getMips() * vm.getNumberOfPes();
+        int chosen = -1;
+        for (TreeMap<Long, TreeSet<Integer>> hostsOfClass : availableByPeMips.tailMap(vm.getMips(), true).values()) {
+            for (TreeSet<Integer> hostsWithRam : hostsOfClass.tailMap((long) vm.getRam(), true).values()) {
+                for (int h : hostsWithRam) {
+                    if (freeMips[h] < required) break;
+                    if (chosen >= 0 && mostFreeMips.compare(h, chosen) > 0) break;
+                    if (fits(h, vm)) {
+                        chosen = h;
+                        break;
+                    }
+                }
+            }
+        }
+        if (chosen < 0) {
+            unplaceableShapes.put(shape, releases);
+            return -1;
+        }
+        if (create && !hosts.get(chosen).vmCreate(vm)) return -1;
+        take(chosen, vm);
+        return chosen;
+    }
+
+    // Hosts use VmSchedulerTimeShared, which lets VMs share PEs: a VM needs no more PEs than the host has,
+    // each virtual PE must fit one physical PE, and the VM's total MIPS must fit the host's unallocated MIPS.
+    private boolean fits(int h, Vm vm) {
+        return vm.getNumberOfPes() <= pes[h]
+                && vm.getMips() <= peMips[h]
+                && vm.getMips() * vm.getNumberOfPes() <= freeMips[h]
+                && vm.getRam() <= freeRam[h]
+                && vm.getBw() <= freeBw[h]
+                && vm.getSize() <= freeStorage[h];
+    }
+
+    private void take(int h, Vm vm) {
+        unindex(h);
+        freeMips[h] -= vm.getMips() * vm.getNumberOfPes();
+        freeRam[h] -= vm.getRam();
+        freeBw[h] -= vm.getBw();
+        freeStorage[h] -= vm.getSize();
+        index(h);
+    }
+
+    private void release(int h, Vm vm) {
+        releases++;
+        unindex(h);
+        freeMips[h] += vm.getMips() * vm.getNumberOfPes();
+        freeRam[h] += vm.getRam();
+        freeBw[h] += vm.getBw();
+        freeStorage[h] += vm.getSize();
+        index(h);
+    }
+
+    // Hosts are bucketed by PE speed, then by free RAM, so a scan only visits hosts with enough memory.
+    private void index(int h) {
+        if (freeMips[h] <= 0 || freeRam[h] <= 0) return;
+        availableByPeMips.get(peMips[h]).computeIfAbsent(freeRam[h], k -> new TreeSet<>(mostFreeMips)).add(h);
+    }
+
+    private void unindex(int h) {
+        TreeMap<Long, TreeSet<Integer>> byRam = availableByPeMips.get(peMips[h]);
+        TreeSet<Integer> hostsWithRam = byRam.get(freeRam[h]);
+        if (hostsWithRam != null && hostsWithRam.remove(h) && hostsWithRam.isEmpty()) byRam.remove(freeRam[h]);
+    }
+}
@@ -0,0 +1,67 @@
+package simple;
+
+class Individual {
+
+    final GeneStore genes;
+    final VmLoadTree loads;
+    long hash;
+    double fitness;
+    boolean dirty;
+
+    Individual(int[] genes, double[] vmLoad) {
+        this(GeneStore.of(genes), vmLoad);
+    }
+
+    Individual(GeneStore genes, double[] vmLoad) {
+        this(genes, new VmLoadTree(vmLoad), hashOf(genes), 0, true);
+    }
+
+    Individual(GeneStore genes, double[] vmLoad, double fitness, boolean dirty) {
+        this(genes, new VmLoadTree(vmLoad), hashOf(genes), fitness, dirty);
+    }
+
+    private Individual(GeneStore genes, VmLoadTree loads, long hash, double fitness, boolean dirty) {
+        this.genes = genes;
+        this.loads = loads;
+        this.hash = hash;
+        this.fitness = fitness;
+        this.dirty = dirty;
+    }
+
+    Individual copy() {
+        return new Individual(GeneStore.of(genes.toArray()), loads.copy(), hash, fitness, dirty);
+    }
+
+    Individual copyInto(GeneStore target) {
+        target.copyFrom(genes);
+        return new Individual(target, loads.copy(), hash, fitness, dirty);
+    }
+
+    void move(int cloudlet, int toVm, double execOnFrom, double execOnTo) {
+        int fromVm = genes.get(cloudlet);
+        if (fromVm == toVm) return;
+        genes.set(cloudlet, toVm);
+        loads.add(fromVm, -execOnFrom);
+        loads.add(toVm, execOnTo);
+        hash ^= key(cloudlet, fromVm) ^ key(cloudlet, toVm);
+        dirty = true;
+    }
+
+    void setFitness(double fitness) {
+        this.fitness = fitness;
+        this.dirty = false;
+    }
+
+    static long hashOf(GeneStore genes) {
+        long hash = 0;
+        for (int c = 0; c < genes.length(); c++) hash ^= key(c, genes.get(c));
+        return hash;
+    }
+
+    private static long key(int cloudlet, int vm) {
+        long z = ((long) cloudlet << 32 | (vm & 0xFFFFFFFFL)) + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,175 @@
+package simple;
+
+import java.util.*;
+import java.util.concurrent.*;
+import org.cloudbus.cloudsim.Cloudlet;
+import org.cloudbus.cloudsim.Vm;
+
+public class IslandTreeSeedScheduler {
+
+    public enum Topology { RING, FULLY_CONNECTED }
+
+    private final Workload workload;
+    private int islandCount = Runtime.getRuntime().availableProcessors();
+    private int populationSize = 10;
+    private int maxIter = 20;
+    private int migrationInterval = 5;
+    private int migrants = 1;
+    private Topology topology = Topology.RING;
+    private long masterSeed = new Random().nextLong();
+
+    private int[] bestGenome;
+    private double bestFitness = Double.MAX_VALUE;
+
+    public IslandTreeSeedScheduler(List<Vm> vms, List<Cloudlet> cloudlets) {
+        this(Workload.of(vms, cloudlets));
+    }
+
+    public IslandTreeSeedScheduler(Workload workload) {
+        this.workload = workload;
+    }
+
+    public void setIslandCount(int islandCount) {
+        this.islandCount = Math.max(1, islandCount);
+    }
+
+    public void setPopulationSize(int populationSize) {
+        this.populationSize = populationSize;
+    }
+
+    public void setMaxIterations(int maxIter) {
+        this.maxIter = maxIter;
+    }
+
+    public void setMigrationInterval(int migrationInterval) {
+        this.migrationInterval = Math.max(1, migrationInterval);
+    }
+
+    public void setMigrants(int migrants) {
+        this.migrants = migrants;
+    }
+
+    public void setTopology(Topology topology) {
+        this.topology = topology;
+    }
+
+    public void setSeed(long masterSeed) {
+        this.masterSeed = masterSeed;
+    }
+
+    public void optimizeMapping() {
+        System.out.println("🔄 Memulai optimasi TSA Island (" + islandCount + " pulau, topologi " + topology + ")...");
+        long startTime = System.currentTimeMillis();
+
+        TreeSeedScheduler[] islands = new TreeSeedScheduler[islandCount];
+        Individual[][] populations = new Individual[islandCount][];
+        for (int k = 0; k < islandCount; k++) {
+            islands[k] = new TreeSeedScheduler(workload);
+            islands[k].setSeed(masterSeed + 0xBF58476D1CE4E5B9L * (k + 1));
+            islands[k].setPopulationSize(populationSize);
+            islands[k].setMaxIterations(maxIter);
+        }
+
+        CyclicBarrier barrier = new CyclicBarrier(islandCount, () -> migrate(islands, populations));
+        ExecutorService executor = Executors.newFixedThreadPool(islandCount);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int k = 0; k < islandCount; k++) {
+                int island = k;
+                futures.add(executor.submit(() -> {
+                    try {
+                        populations[island] = islands[island].initialPopulation();
+                        for (int iter = 0; iter < maxIter; iter++) {
+                            populations[island] = islands[island].nextGeneration(populations[island], iter);
+                            if ((iter + 1) % migrationInterval == 0 && iter < maxIter - 1) {
+                                barrier.await();
+                            }
+                        }
+                    } catch (RuntimeException e) {
+                        barrier.reset();
+                        throw e;
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Optimasi island terinterupsi", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Optimasi island gagal", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (TreeSeedScheduler island : islands) {
+            if (island.getBestFitness() < bestFitness) {
+                bestFitness = island.getBestFitness();
+                bestGenome = island.getBestGenome();
+            }
+        }
+
+        long duration = System.currentTimeMillis() - startTime;
+        System.out.printf("Fitness terbaik dari %d pulau: %.4f%n", islandCount, bestFitness);
+        System.out.println("✅ Optimasi selesai dalam " + (duration / 1000.0) + " detik.");
+    }
+
+    private void migrate(TreeSeedScheduler[] islands, Individual[][] populations) {
+        int n = islands.length;
+        if (n < 2 || migrants <= 0) return;
+
+        // Each island offers its best-so-far genome plus its fittest current individuals.
+        List<List<Individual>> emigrants = new ArrayList<>();
+        for (int k = 0; k < n; k++) {
+            List<Individual> offered = new ArrayList<>();
+            BestSolution best = islands[k].getBest();
+            if (best.genome != null) {
+                Individual elite = islands[k].individualOf(best.genome);
+                elite.setFitness(best.fitness);
+                offered.add(elite);
+            }
+            offered.addAll(Arrays.asList(islands[k].fittest(populations[k], migrants)));
+            emigrants.add(offered);
+        }
+
+        for (int k = 0; k < n; k++) {
+            List<Individual> candidates = new ArrayList<>();
+            if (topology == Topology.RING) {
+                candidates.addAll(emigrants.get((k - 1 + n) % n));
+            } else {
+                for (int j = 0; j < n; j++) {
+                    if (j != k) candidates.addAll(emigrants.get(j));
+                }
+            }
+            candidates.sort(Comparator.comparingDouble(individual -> individual.fitness));
+
+            Individual[] population = populations[k];
+            Set<Long> seen = new HashSet<>();
+            int count = 0;
+            for (Individual candidate : candidates) {
+                if (count == Math.min(migrants, population.length)) break;
+                if (!seen.add(candidate.hash)) continue;
+                population[population.length - 1 - count++] = islands[k].individualOf(candidate.genes.toArray());
+            }
+        }
+    }
+
+    public int[] getBestGenome() {
+        return bestGenome;
+    }
+
+    public double getBestFitness() {
+        return bestFitness;
+    }
+
+    public Map<Integer, Integer> getBestMapping() {
+        if (bestGenome == null) return null;
+        Map<Integer, Integer> mapping = new HashMap<>();
+        for (int c = 0; c < bestGenome.length; c++) {
+            mapping.put(workload.cloudletIds[c], bestGenome[c]);
+        }
+        return mapping;
+    }
+}
@@ -0,0 +1,42 @@
+package simple;
+
+public final class IterationEvent {
+
+    public final int iteration;
+    public final double bestFitness;
+    public final double generationBestFitness;
+    public final double meanFitness;
+    public final double diversity;
+    public final long evaluations;
+    public final long fitnessComputations;
+    public final long generationFitnessComputations;
+    public final long evaluateNanos;
+    public final long localSearchNanos;
+    public final long mutationNanos;
+    public final long rfPredictionNanos;
+    public final long allocatedBytes;
+
+    IterationEvent(int iteration, double bestFitness, double generationBestFitness, double meanFitness,
+                   double diversity, long evaluations, long fitnessComputations,
+                   long generationFitnessComputations, long evaluateNanos,
+                   long localSearchNanos, long mutationNanos, long rfPredictionNanos, long allocatedBytes) {
+        this.iteration = iteration;
+        this.bestFitness = bestFitness;
+        this.generationBestFitness = generationBestFitness;
+        this.meanFitness = meanFitness;
+        this.diversity = diversity;
+        this.evaluations = evaluations;
+        this.fitnessComputations = fitnessComputations;
+        this.generationFitnessComputations = generationFitnessComputations;
+        this.evaluateNanos = evaluateNanos;
+        this.localSearchNanos = localSearchNanos;
+        this.mutationNanos = mutationNanos;
+        this.rfPredictionNanos = rfPredictionNanos;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    public double evaluationsPerSecond() {
+        long nanos = evaluateNanos + localSearchNanos + mutationNanos;
+        return nanos == 0 ? 0 : generationFitnessComputations * 1e9 / nanos;
+    }
+}
@@ -0,0 +1,65 @@
+package simple;
+
+import jdk.jfr.*;
+
+public class JfrTelemetryListener implements OptimizationListener {
+
+    @Name("simple.TreeSeedIteration")
+    @Label("TreeSeed Iteration")
+    @Category({"TreeSeedScheduler"})
+    @StackTrace(false)
+    static class IterationJfrEvent extends Event {
+        @Label("Iteration")
+        int iteration;
+        @Label("Best Fitness")
+        double bestFitness;
+        @Label("Mean Fitness")
+        double meanFitness;
+        @Label("Diversity")
+        double diversity;
+        @Label("Evaluations")
+        long evaluations;
+        @Label("Fitness Computations")
+        long fitnessComputations;
+        @Label("Generation Fitness Computations")
+        long generationFitnessComputations;
+        @Label("Evaluations Per Second")
+        @Frequency
+        double evaluationsPerSecond;
+        @Label("Evaluate Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long evaluateNanos;
+        @Label("Local Search Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long localSearchNanos;
+        @Label("Mutation Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long mutationNanos;
+        @Label("RF Prediction Time")
+        @Timespan(Timespan.NANOSECONDS)
+        long rfPredictionNanos;
+        @Label("Allocated")
+        @DataAmount
+        long allocatedBytes;
+    }
+
+    @Override
+    public void onIteration(IterationEvent e) {
+        IterationJfrEvent event = new IterationJfrEvent();
+        if (!event.isEnabled()) return;
+        event.iteration = e.iteration;
+        event.bestFitness = e.bestFitness;
+        event.meanFitness = e.meanFitness;
+        event.diversity = e.diversity;
+        event.evaluations = e.evaluations;
+        event.fitnessComputations = e.fitnessComputations;
+        event.generationFitnessComputations = e.generationFitnessComputations;
+        event.evaluationsPerSecond = e.evaluationsPerSecond();
+        event.evaluateNanos = e.evaluateNanos;
+        event.localSearchNanos = e.localSearchNanos;
+        event.mutationNanos = e.mutationNanos;
+        event.rfPredictionNanos = e.rfPredictionNanos;
+        event.allocatedBytes = e.allocatedBytes;
+        event.commit();
+    }
+}
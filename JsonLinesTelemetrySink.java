@@ -0,0 +1,56 @@
+package simple;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.Locale;
+
+public class JsonLinesTelemetrySink implements OptimizationListener, Closeable {
+
+    private final BufferedWriter out;
+
+    public JsonLinesTelemetrySink(Path path) throws IOException {
+        this(Files.newBufferedWriter(path));
+    }
+
+    public JsonLinesTelemetrySink(Writer writer) {
+        this.out = writer instanceof BufferedWriter ? (BufferedWriter) writer : new BufferedWriter(writer);
+    }
+
+    @Override
+    public void onIteration(IterationEvent e) {
+        try {
+            out.write(String.format(Locale.ROOT,
+                    "{\"iteration\":%d,\"bestFitness\":%s,\"generationBestFitness\":%s,\"meanFitness\":%s,"
+                            + "\"diversity\":%s,\"evaluations\":%d,\"fitnessComputations\":%d,"
+                            + "\"generationFitnessComputations\":%d,\"evaluationsPerSecond\":%s,\"evaluateNs\":%d,"
+                            + "\"localSearchNs\":%d,\"mutationNs\":%d,\"rfPredictionNs\":%d,\"allocatedBytes\":%d}",
+                    e.iteration, number(e.bestFitness), number(e.generationBestFitness), number(e.meanFitness),
+                    number(e.diversity), e.evaluations, e.fitnessComputations, e.generationFitnessComputations,
+                    number(e.evaluationsPerSecond()), e.evaluateNanos,
+                    e.localSearchNanos, e.mutationNanos, e.rfPredictionNanos, e.allocatedBytes));
+            out.newLine();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public void onComplete(StopCriteria.Reason reason) {
+        try {
+            out.write("{\"stopReason\":\"" + reason + "\"}");
+            out.newLine();
+            out.flush();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    private static String number(double value) {
+        return Double.isFinite(value) ? Double.toString(value) : "null";
+    }
+}
@@ -0,0 +1,113 @@
+package simple;
+
+class LocalSearch {
+
+    private final TreeSeedScheduler scheduler;
+    private final Workload workload;
+    private final int maxSteps;
+    private final int candidates;
+
+    LocalSearch(TreeSeedScheduler scheduler, Workload workload, int maxSteps, int candidates) {
+        this.scheduler = scheduler;
+        this.workload = workload;
+        this.maxSteps = maxSteps;
+        this.candidates = candidates;
+    }
+
+    double improve(Individual individual, double fitness) {
+        int vmCount = workload.vmCount();
+        if (vmCount < 2) return fitness;
+
+        int n = individual.genes.length();
+        int[] size = new int[vmCount];
+        for (int c = 0; c < n; c++) size[individual.genes.get(c)]++;
+        int[][] members = new int[vmCount][];
+        for (int v = 0; v < vmCount; v++) members[v] = new int[Math.max(4, size[v])];
+        int[] position = new int[n];
+        java.util.Arrays.fill(size, 0);
+        for (int c = 0; c < n; c++) {
+            int v = individual.genes.get(c);
+            position[c] = size[v];
+            members[v][size[v]++] = c;
+        }
+
+        double[] load = individual.loads.loads();
+        double current = fitness;
+        for (int step = 0; step < maxSteps; step++) {
+            int a = individual.loads.mostLoaded();
+            int b = individual.loads.leastLoaded();
+            if (a == b || size[a] == 0) break;
+
+            double total = 0;
+            double maxOther = 0;
+            for (int v = 0; v < vmCount; v++) {
+                total += load[v];
+                if (v != a && v != b) maxOther = Math.max(maxOther, load[v]);
+            }
+            double avg = total / vmCount;
+            double deviation = 0;
+            for (double l : load) deviation += Math.abs(l - avg);
+
+            double la = load[a], lb = load[b];
+            double bestScore = current;
+            int bestC = -1, bestD = -1;
+            int limitA = Math.min(candidates, size[a]);
+            int limitB = Math.min(candidates, size[b]);
+            for (int i = 0; i < limitA; i++) {
+                int c = members[a][i];
+                double ca = workload.execTime(c, a), cb = workload.execTime(c, b);
+                double score = score(la - ca, lb + cb, la, lb, maxOther, total, avg, deviation, vmCount);
+                if (score < bestScore) {
+                    bestScore = score;
+                    bestC = c;
+                    bestD = -1;
+                }
+                for (int j = 0; j < limitB; j++) {
+                    int d = members[b][j];
+                    double da = workload.execTime(d, a), db = workload.execTime(d, b);
+                    score = score(la - ca + da, lb - db + cb, la, lb, maxOther, total, avg, deviation, vmCount);
+                    if (score < bestScore) {
+                        bestScore = score;
+                        bestC = c;
+                        bestD = d;
+                    }
+                }
+            }
+            if (bestC < 0) break;
+
+            relocate(individual, members, size, position, bestC, b);
+            if (bestD >= 0) relocate(individual, members, size, position, bestD, a);
+
+            double exact = scheduler.fitness(individual);
+            if (exact >= current) {
+                relocate(individual, members, size, position, bestC, a);
+                if (bestD >= 0) relocate(individual, members, size, position, bestD, b);
+                break;
+            }
+            current = exact;
+        }
+        return current;
+    }
+
+    private static double score(double la2, double lb2, double la, double lb, double maxOther,
+                                double total, double avg, double deviation, int vmCount) {
+        double makespan = Math.max(maxOther, Math.max(la2, lb2));
+        double total2 = total - la - lb + la2 + lb2;
+        double deviation2 = deviation - Math.abs(la - avg) - Math.abs(lb - avg)
+                + Math.abs(la2 - avg) + Math.abs(lb2 - avg);
+        return TreeSeedScheduler.fitness(makespan, deviation2 / vmCount, total2);
+    }
+
+    private void relocate(Individual individual, int[][] members, int[] size, int[] position, int c, int to) {
+        int from = individual.genes.get(c);
+        int last = members[from][--size[from]];
+        members[from][position[c]] = last;
+        position[last] = position[c];
+
+        if (size[to] == members[to].length) members[to] = java.util.Arrays.copyOf(members[to], size[to] * 2);
+        position[c] = size[to];
+        members[to][size[to]++] = c;
+
+        individual.move(c, to, workload.execTime(c, from), workload.execTime(c, to));
+    }
+}
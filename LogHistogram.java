@@ -0,0 +1,56 @@
+package simple;
+
+final class LogHistogram {
+
+    private static final int SUB_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int MIN_EXPONENT = -20;
+    private static final int MAX_EXPONENT = 62;
+
+    private final long[] counts = new long[1 + (MAX_EXPONENT - MIN_EXPONENT + 1) * SUB_BUCKETS];
+    private long total;
+    private double max;
+
+    void record(double value) {
+        counts[bucket(value)]++;
+        total++;
+        if (value > max) max = value;
+    }
+
+    long count() {
+        return total;
+    }
+
+    double max() {
+        return max;
+    }
+
+    double quantile(double q) {
+        if (total == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(q * total));
+        long seen = 0;
+        for (int b = 0; b < counts.length; b++) {
+            seen += counts[b];
+            if (seen >= rank) return Math.min(upperBound(b), max);
+        }
+        return max;
+    }
+
+    private static int bucket(double value) {
+        if (!(value > 0)) return 0;
+        int exponent = Math.getExponent(value);
+        if (exponent < MIN_EXPONENT) return 1;
+        if (exponent > MAX_EXPONENT) return 1 + (MAX_EXPONENT - MIN_EXPONENT + 1) * SUB_BUCKETS - 1;
+        long bits = Double.doubleToRawLongBits(value);
+        int sub = (int) ((bits >>> (52 - SUB_BITS)) & (SUB_BUCKETS - 1));
+        return 1 + (exponent - MIN_EXPONENT) * SUB_BUCKETS + sub;
+    }
+
+    private static double upperBound(int bucket) {
+        if (bucket == 0) return 0;
+        int index = bucket - 1;
+        int exponent = index / SUB_BUCKETS + MIN_EXPONENT;
+        int sub = index % SUB_BUCKETS;
+        return Math.scalb(1.0 + (sub + 1) / (double) SUB_BUCKETS, exponent);
+    }
+}
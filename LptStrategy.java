@@ -0,0 +1,21 @@
+package simple;
+
+public class LptStrategy implements SchedulingStrategy {
+
+    @Override
+    public String name() {
+        return "LPT";
+    }
+
+    @Override
+    public int[] schedule(Workload workload) {
+        VmTypeLoads loads = new VmTypeLoads(workload);
+        int[] genome = new int[workload.cloudletCount()];
+        for (int c : MaxMinStrategy.descending(workload.lengthOrder())) {
+            int vm = loads.leastLoaded();
+            genome[c] = vm;
+            loads.add(vm, workload.execTime(c, vm));
+        }
+        return genome;
+    }
+}
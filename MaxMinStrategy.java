@@ -0,0 +1,24 @@
+package simple;
+
+public class MaxMinStrategy implements SchedulingStrategy {
+
+    @Override
+    public String name() {
+        return "Max-Min";
+    }
+
+    @Override
+    public int[] schedule(Workload workload) {
+        // The largest remaining cloudlet always has the maximum earliest completion time,
+        // so Max-Min reduces to MCT over cloudlets in descending length order.
+        return MctStrategy.assign(workload, descending(workload.lengthOrder()));
+    }
+
+    static int[] descending(int[] ascending) {
+        int[] order = new int[ascending.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = ascending[ascending.length - 1 - i];
+        }
+        return order;
+    }
+}
@@ -0,0 +1,28 @@
+package simple;
+
+public class MctStrategy implements SchedulingStrategy {
+
+    @Override
+    public String name() {
+        return "MCT";
+    }
+
+    @Override
+    public int[] schedule(Workload workload) {
+        int n = workload.cloudletCount();
+        int[] order = new int[n];
+        for (int c = 0; c < n; c++) order[c] = c;
+        return assign(workload, order);
+    }
+
+    static int[] assign(Workload workload, int[] order) {
+        VmTypeLoads loads = new VmTypeLoads(workload);
+        int[] genome = new int[workload.cloudletCount()];
+        for (int c : order) {
+            int vm = loads.earliestCompletion(workload.length[c]);
+            genome[c] = vm;
+            loads.add(vm, workload.execTime(c, vm));
+        }
+        return genome;
+    }
+}
@@ -0,0 +1,114 @@
+package simple;
+
+import java.util.*;
+import org.cloudbus.cloudsim.Cloudlet;
+import org.cloudbus.cloudsim.Vm;
+
+public final class MetricsAggregator {
+
+    private final int vmCount;
+    private final double[] vmLoad;
+
+    private int finished;
+    private double totalCpuTime;
+    private double totalWaitTime;
+    private double totalStartTime;
+    private double totalFinishTime;
+    private double maxFinishTime;
+
+    private final LogHistogram waitTimes = new LogHistogram();
+    private final LogHistogram startTimes = new LogHistogram();
+    private final LogHistogram finishTimes = new LogHistogram();
+
+    public MetricsAggregator(int vmCount) {
+        this.vmCount = vmCount;
+        this.vmLoad = new double[vmCount];
+    }
+
+    public static TSA.SimulationResult of(List<? extends Cloudlet> finishedCloudlets, List<Vm> vms, int numTasks) {
+        int maxId = 0;
+        for (Vm vm : vms) maxId = Math.max(maxId, vm.getId());
+        int[] indexById = new int[maxId + 1];
+        Arrays.fill(indexById, -1);
+        for (int v = 0; v < vms.size(); v++) indexById[vms.get(v).getId()] = v;
+
+        MetricsAggregator aggregator = new MetricsAggregator(vms.size());
+        for (Cloudlet cloudlet : finishedCloudlets) {
+            if (cloudlet.getCloudletStatus() != Cloudlet.SUCCESS) {
+                aggregator.addUnsuccessful();
+                continue;
+            }
+            int vmId = cloudlet.getVmId();
+            aggregator.add(vmId >= 0 && vmId < indexById.length ? indexById[vmId] : -1,
+                    cloudlet.getExecStartTime(), cloudlet.getFinishTime(),
+                    cloudlet.getActualCPUTime(), cloudlet.getWaitingTime());
+        }
+        return aggregator.result(numTasks);
+    }
+
+    public static TSA.SimulationResult of(ExecutionTrace trace, int vmCount, int numTasks) {
+        MetricsAggregator aggregator = new MetricsAggregator(vmCount);
+        for (int i = 0; i < trace.size; i++) {
+            aggregator.add(trace.vmIndex[i], trace.startTime[i], trace.finishTime[i], trace.cpuTime[i], trace.waitTime[i]);
+        }
+        for (int i = trace.size; i < trace.finishedCount; i++) aggregator.addUnsuccessful();
+        return aggregator.result(numTasks);
+    }
+
+    public void add(int vmIndex, double startTime, double finishTime, double cpuTime, double waitTime) {
+        finished++;
+        totalCpuTime += cpuTime;
+        totalWaitTime += waitTime;
+        totalStartTime += startTime;
+        totalFinishTime += finishTime;
+        if (finishTime > maxFinishTime) maxFinishTime = finishTime;
+        if (vmIndex >= 0) vmLoad[vmIndex] += cpuTime;
+
+        waitTimes.record(waitTime);
+        startTimes.record(startTime);
+        finishTimes.record(finishTime);
+    }
+
+    public void addUnsuccessful() {
+        finished++;
+    }
+
+    public TSA.SimulationResult result(int numTasks) {
+        TSA.SimulationResult result = new TSA.SimulationResult();
+        result.numTasks = numTasks;
+        result.totalCpuTime = totalCpuTime;
+        result.totalWaitTime = totalWaitTime;
+        result.avgStartTime = finished == 0 ? 0 : totalStartTime / finished;
+        result.avgExecTime = finished == 0 ? 0 : totalCpuTime / finished;
+        result.avgFinishTime = finished == 0 ? 0 : totalFinishTime / finished;
+        result.makespan = maxFinishTime;
+        result.throughput = (maxFinishTime == 0) ? 0 : finished / maxFinishTime;
+
+        double mean = 0;
+        double m2 = 0;
+        for (int v = 0; v < vmCount; v++) {
+            double delta = vmLoad[v] - mean;
+            mean += delta / (v + 1);
+            m2 += delta * (vmLoad[v] - mean);
+        }
+        result.imbalanceDegree = vmCount == 0 ? 0 : Math.sqrt(m2 / vmCount);
+
+        result.resourceUtilization = (vmCount * maxFinishTime == 0) ? 0 : totalCpuTime / (vmCount * maxFinishTime);
+        double energyPerVM = 200.0;
+        result.totalEnergyConsumption = vmCount * energyPerVM * result.resourceUtilization * 0.1;
+
+        result.waitP50 = waitTimes.quantile(0.50);
+        result.waitP95 = waitTimes.quantile(0.95);
+        result.waitP99 = waitTimes.quantile(0.99);
+        result.waitMax = waitTimes.max();
+        result.startP50 = startTimes.quantile(0.50);
+        result.startP95 = startTimes.quantile(0.95);
+        result.startP99 = startTimes.quantile(0.99);
+        result.startMax = startTimes.max();
+        result.finishP50 = finishTimes.quantile(0.50);
+        result.finishP95 = finishTimes.quantile(0.95);
+        result.finishP99 = finishTimes.quantile(0.99);
+        result.finishMax = finishTimes.max();
+        return result;
+    }
+}
@@ -0,0 +1,16 @@
+package simple;
+
+public class MinMinStrategy implements SchedulingStrategy {
+
+    @Override
+    public String name() {
+        return "Min-Min";
+    }
+
+    @Override
+    public int[] schedule(Workload workload) {
+        // The smallest remaining cloudlet always has the minimum earliest completion time,
+        // so Min-Min reduces to MCT over cloudlets in ascending length order.
+        return MctStrategy.assign(workload, workload.lengthOrder());
+    }
+}
@@ -0,0 +1,182 @@
+package simple;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import org.cloudbus.cloudsim.Cloudlet;
+import org.cloudbus.cloudsim.Vm;
+
+public class OnlineScheduler {
+
+    private static final class Placement {
+        final double length;
+        int vm;
+
+        Placement(double length, int vm) {
+            this.length = length;
+            this.vm = vm;
+        }
+    }
+
+    private final Workload vms;
+    private final VmTypeLoads loads;
+
+    private final Map<Integer, Placement> active = new HashMap<>();
+    // The last windowSize submitted ids, minus those completed since; refine() works on these, not on the
+    // last windowSize still-active cloudlets.
+    private final LinkedHashSet<Integer> recent = new LinkedHashSet<>();
+    private int windowSize = 5000;
+    private Duration refinementBudget = Duration.ofMillis(200);
+    private long refinementSeed = new Random().nextLong();
+    private ScheduledExecutorService refiner;
+    private long refinements;
+    private long appliedRefinements;
+
+    public OnlineScheduler(List<Vm> vms) {
+        this.vms = Workload.of(vms, Collections.emptyList());
+        this.loads = new VmTypeLoads(this.vms);
+    }
+
+    public void setWindowSize(int windowSize) {
+        this.windowSize = windowSize;
+    }
+
+    public void setRefinementBudget(Duration refinementBudget) {
+        this.refinementBudget = refinementBudget;
+    }
+
+    public void setSeed(long seed) {
+        this.refinementSeed = seed;
+    }
+
+    public int submit(Cloudlet cloudlet) {
+        int vm = submit(cloudlet.getCloudletId(), cloudlet.getCloudletLength());
+        cloudlet.setVmId(vms.vmIds[vm]);
+        return vm;
+    }
+
+    public synchronized int submit(int cloudletId, double length) {
+        int bestVm = loads.earliestCompletion(length);
+
+        Placement previous = active.put(cloudletId, new Placement(length, bestVm));
+        if (previous != null) addLoad(previous.vm, -previous.length / vms.mips[previous.vm]);
+        addLoad(bestVm, length / vms.mips[bestVm]);
+
+        recent.remove(cloudletId);
+        recent.add(cloudletId);
+        Iterator<Integer> oldest = recent.iterator();
+        while (recent.size() > windowSize) {
+            oldest.next();
+            oldest.remove();
+        }
+        return bestVm;
+    }
+
+    public synchronized void complete(int cloudletId) {
+        Placement placement = active.remove(cloudletId);
+        recent.remove(cloudletId);
+        if (placement != null) {
+            addLoad(placement.vm, -placement.length / vms.mips[placement.vm]);
+        }
+    }
+
+    public synchronized int vmIndexOf(int cloudletId) {
+        Placement placement = active.get(cloudletId);
+        return placement == null ? -1 : placement.vm;
+    }
+
+    public synchronized int vmIdOf(int cloudletId) {
+        int vm = vmIndexOf(cloudletId);
+        return vm < 0 ? -1 : vms.vmIds[vm];
+    }
+
+    public synchronized double expectedMakespan() {
+        return loads.maxLoad();
+    }
+
+    public synchronized int activeCount() {
+        return active.size();
+    }
+
+    public synchronized long getRefinements() {
+        return refinements;
+    }
+
+    public synchronized long getAppliedRefinements() {
+        return appliedRefinements;
+    }
+
+    public synchronized void startRefinement(Duration interval) {
+        if (refiner != null) return;
+        refiner = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "tsa-online-refiner");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1, interval.toMillis());
+        refiner.scheduleWithFixedDelay(this::refine, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    public void stopRefinement() {
+        ScheduledExecutorService executor;
+        synchronized (this) {
+            executor = refiner;
+            refiner = null;
+        }
+        if (executor != null) executor.shutdownNow();
+    }
+
+    public boolean refine() {
+        int[] ids;
+        double[] lengths;
+        int[] current;
+        double[] baseLoad;
+        long seed;
+        synchronized (this) {
+            List<Integer> window = new ArrayList<>(recent.size());
+            for (Integer id : recent) {
+                if (active.containsKey(id)) window.add(id);
+            }
+            if (window.size() < 2) return false;
+
+            ids = new int[window.size()];
+            lengths = new double[ids.length];
+            current = new int[ids.length];
+            baseLoad = loads.loads();
+            for (int i = 0; i < ids.length; i++) {
+                Placement placement = active.get(window.get(i));
+                ids[i] = window.get(i);
+                lengths[i] = placement.length;
+                current[i] = placement.vm;
+                baseLoad[placement.vm] -= placement.length / vms.mips[placement.vm];
+            }
+            refinements++;
+            seed = refinementSeed + refinements;
+        }
+
+        TreeSeedScheduler scheduler = new TreeSeedScheduler(Workload.of(ids, lengths, vms.vmIds, vms.mips));
+        scheduler.setVerbose(false);
+        scheduler.setSeed(seed);
+        scheduler.setBaseLoad(baseLoad);
+        scheduler.setInitialMapping(current);
+        double currentFitness = scheduler.evaluate(current);
+        int[] refined = scheduler.optimizeMapping(refinementBudget, StopCriteria.none().withStagnation(5, 1e-6));
+        if (refined == null || scheduler.getBestFitness() >= currentFitness) return false;
+
+        synchronized (this) {
+            for (int i = 0; i < ids.length; i++) {
+                Placement placement = active.get(ids[i]);
+                if (placement == null || placement.vm != current[i] || refined[i] == current[i]) continue;
+                addLoad(placement.vm, -placement.length / vms.mips[placement.vm]);
+                placement.vm = refined[i];
+                addLoad(placement.vm, placement.length / vms.mips[placement.vm]);
+            }
+            appliedRefinements++;
+        }
+        return true;
+    }
+
+    private void addLoad(int vm, double delta) {
+        loads.add(vm, delta);
+    }
+}
@@ -0,0 +1,70 @@
+package simple;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public final class OptimizationHandle {
+
+    private final TreeSeedScheduler scheduler;
+    private final AtomicBoolean cancelled = new AtomicBoolean();
+    private final CompletableFuture<StopCriteria.Reason> result = new CompletableFuture<>();
+
+    private OptimizationHandle(TreeSeedScheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    static OptimizationHandle start(TreeSeedScheduler scheduler, Duration budget, StopCriteria criteria) {
+        OptimizationHandle handle = new OptimizationHandle(scheduler);
+        Thread worker = new Thread(() -> {
+            try {
+                handle.result.complete(scheduler.run(budget, criteria, handle.cancelled::get));
+            } catch (Throwable t) {
+                handle.result.completeExceptionally(t);
+            }
+        }, "tsa-optimizer");
+        worker.setDaemon(true);
+        worker.start();
+        return handle;
+    }
+
+    public BestSolution best() {
+        return scheduler.getBest();
+    }
+
+    public int[] bestGenome() {
+        return scheduler.getBestGenome();
+    }
+
+    public double bestFitness() {
+        return scheduler.getBestFitness();
+    }
+
+    public int iteration() {
+        return scheduler.getIteration();
+    }
+
+    public long evaluations() {
+        return scheduler.getEvaluations();
+    }
+
+    public boolean isDone() {
+        return result.isDone();
+    }
+
+    public void cancel() {
+        cancelled.set(true);
+    }
+
+    public CompletableFuture<StopCriteria.Reason> future() {
+        return result;
+    }
+
+    public StopCriteria.Reason await() throws InterruptedException {
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Optimasi gagal", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package simple;
+
+public interface OptimizationListener {
+
+    void onIteration(IterationEvent event);
+
+    default void onComplete(StopCriteria.Reason reason) {
+    }
+}
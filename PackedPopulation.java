@@ -0,0 +1,124 @@
+package simple;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+final class PackedPopulation {
+
+    private final int length;
+    private final int width;
+    private final Slot[][] generations;
+    private int front;
+
+    PackedPopulation(int slots, int length, int vmCount) {
+        this.length = length;
+        this.width = widthFor(vmCount);
+        if ((long) length * width > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Genom terlalu panjang untuk satu buffer: " + length);
+        }
+        this.generations = new Slot[2][slots];
+        for (int g = 0; g < 2; g++) {
+            for (int i = 0; i < slots; i++) {
+                generations[g][i] = new Slot(ByteBuffer.allocateDirect(length * width).order(ByteOrder.nativeOrder()));
+            }
+        }
+    }
+
+    static int widthFor(int vmCount) {
+        if (vmCount <= 1 << 8) return 1;
+        if (vmCount <= 1 << 16) return 2;
+        return 4;
+    }
+
+    static long bytesFor(int slots, int length, int vmCount) {
+        return 2L * slots * length * widthFor(vmCount);
+    }
+
+    static int get(ByteBuffer buffer, int index, int width) {
+        switch (width) {
+            case 1: return buffer.get(index) & 0xFF;
+            case 2: return buffer.getShort(index << 1) & 0xFFFF;
+            default: return buffer.getInt(index << 2);
+        }
+    }
+
+    static void put(ByteBuffer buffer, int index, int value, int width) {
+        switch (width) {
+            case 1: buffer.put(index, (byte) value); break;
+            case 2: buffer.putShort(index << 1, (short) value); break;
+            default: buffer.putInt(index << 2, value);
+        }
+    }
+
+    int width() {
+        return width;
+    }
+
+    long bytes() {
+        return 2L * generations[0].length * length * width;
+    }
+
+    GeneStore front(int slot) {
+        return generations[front][slot];
+    }
+
+    GeneStore back(int slot) {
+        return generations[1 - front][slot];
+    }
+
+    void swap() {
+        front = 1 - front;
+    }
+
+    private final class Slot implements GeneStore {
+
+        private final ByteBuffer buffer;
+
+        private Slot(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public int get(int cloudlet) {
+            return PackedPopulation.get(buffer, cloudlet, width);
+        }
+
+        @Override
+        public void set(int cloudlet, int vm) {
+            PackedPopulation.put(buffer, cloudlet, vm, width);
+        }
+
+        @Override
+        public void writeTo(ByteBuffer target, int targetWidth) {
+            if (targetWidth == width && target.order() == buffer.order()) {
+                target.put(0, buffer, 0, length * width);
+            } else {
+                GeneStore.super.writeTo(target, targetWidth);
+            }
+        }
+
+        @Override
+        public void readFrom(ByteBuffer source, int sourceWidth) {
+            if (sourceWidth == width && source.order() == buffer.order()) {
+                buffer.put(0, source, 0, length * width);
+            } else {
+                GeneStore.super.readFrom(source, sourceWidth);
+            }
+        }
+
+        @Override
+        public void copyFrom(GeneStore source) {
+            if (source == this) return;
+            if (source instanceof Slot) {
+                buffer.put(0, ((Slot) source).buffer, 0, length * width);
+            } else {
+                GeneStore.super.copyFrom(source);
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package simple;
+
+import java.util.*;
+
+public final class PopulationInit {
+
+    private final List<SchedulingStrategy> heuristics;
+    private final double perturbedShare;
+    private final double perturbationRate;
+
+    public PopulationInit(List<SchedulingStrategy> heuristics, double perturbedShare, double perturbationRate) {
+        this.heuristics = new ArrayList<>(heuristics);
+        this.perturbedShare = perturbedShare;
+        this.perturbationRate = perturbationRate;
+    }
+
+    public static PopulationInit random() {
+        return new PopulationInit(Collections.emptyList(), 0, 0);
+    }
+
+    public static PopulationInit heuristic() {
+        return new PopulationInit(Arrays.asList(new LptStrategy(), new MctStrategy()), 0.5, 0.05);
+    }
+
+    List<int[]> seeds(Workload workload) {
+        List<int[]> seeds = new ArrayList<>(heuristics.size());
+        for (SchedulingStrategy heuristic : heuristics) {
+            seeds.add(heuristic.schedule(workload));
+        }
+        return seeds;
+    }
+
+    int perturbedCount(int populationSize, int seedCount) {
+        if (seedCount == 0) return 0;
+        int remaining = Math.max(0, populationSize - seedCount);
+        return (int) Math.round(remaining * perturbedShare);
+    }
+
+    double perturbationRate() {
+        return perturbationRate;
+    }
+}
@@ -0,0 +1,300 @@
+package simple;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.*;
+
+public class RandomForest {
+
+    private static final int MAGIC = 0x52464F31;
+
+    private final int[] roots;
+    private final int[] feature;
+    private final double[] threshold;
+    private final int[] left;
+    private final int[] right;
+    private final double[] value;
+
+    public RandomForest() {
+        this(new int[0], new int[0], new double[0], new int[0], new int[0], new double[0]);
+    }
+
+    private RandomForest(int[] roots, int[] feature, double[] threshold, int[] left, int[] right, double[] value) {
+        this.roots = roots;
+        this.feature = feature;
+        this.threshold = threshold;
+        this.left = left;
+        this.right = right;
+        this.value = value;
+    }
+
+    public int treeCount() {
+        return roots.length;
+    }
+
+    public double predict(double[] features) {
+        return predict(features[0], features[1]);
+    }
+
+    public double predict(double x0, double x1) {
+        if (roots.length == 0) return 0;
+        double sum = 0;
+        for (int root : roots) {
+            int node = root;
+            while (feature[node] >= 0) {
+                double x = feature[node] == 0 ? x0 : x1;
+                node = x <= threshold[node] ? left[node] : right[node];
+            }
+            sum += value[node];
+        }
+        return sum / roots.length;
+    }
+
+    public void predictAll(double[] x0, double[] x1, double[] out) {
+        int n = out.length;
+        Arrays.fill(out, 0, n, 0);
+        if (roots.length == 0) return;
+        for (int root : roots) {
+            for (int i = 0; i < n; i++) {
+                int node = root;
+                while (feature[node] >= 0) {
+                    double x = feature[node] == 0 ? x0[i] : x1[i];
+                    node = x <= threshold[node] ? left[node] : right[node];
+                }
+                out[i] += value[node];
+            }
+        }
+        double scale = 1.0 / roots.length;
+        for (int i = 0; i < n; i++) out[i] *= scale;
+    }
+
+    public static RandomForest train(double[] x0, double[] x1, double[] y, int trees, int maxDepth, int minLeaf, long seed) {
+        if (x0.length != x1.length || x0.length != y.length) {
+            throw new IllegalArgumentException("Panjang fitur dan label tidak sama");
+        }
+        Builder builder = new Builder(new double[][]{x0, x1}, y, maxDepth, Math.max(1, minLeaf));
+        SplittableRandom rand = new SplittableRandom(seed);
+        int[] roots = new int[y.length == 0 ? 0 : trees];
+        int[] counts = new int[y.length];
+        for (int t = 0; t < roots.length; t++) {
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < y.length; i++) counts[rand.nextInt(y.length)]++;
+            roots[t] = builder.grow(builder.presorted(counts), 0, y.length, 0, rand);
+        }
+        return builder.build(roots);
+    }
+
+    public static RandomForest trainFromLog(Path log, int trees, int maxDepth, int minLeaf, long seed) throws IOException {
+        double[][] columns = new double[3][1024];
+        int n = 0;
+        try (BufferedReader br = Files.newBufferedReader(log)) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) continue;
+                String[] parts = line.split("[,;\\s]+");
+                if (parts.length < 3) continue;
+                if (n == columns[0].length) {
+                    for (int k = 0; k < 3; k++) columns[k] = Arrays.copyOf(columns[k], n * 2);
+                }
+                try {
+                    for (int k = 0; k < 3; k++) columns[k][n] = Double.parseDouble(parts[k]);
+                    n++;
+                } catch (NumberFormatException ignored) {
+                }
+            }
+        }
+        // Same feature scaling as TreeSeedScheduler: length and MIPS in thousands.
+        double[] x0 = new double[n];
+        double[] x1 = new double[n];
+        for (int i = 0; i < n; i++) {
+            x0[i] = columns[0][i] / 1000.0;
+            x1[i] = columns[1][i] / 1000.0;
+        }
+        return train(x0, x1, Arrays.copyOf(columns[2], n), trees, maxDepth, minLeaf, seed);
+    }
+
+    public void save(Path path) throws IOException {
+        int nodes = feature.length;
+        ByteBuffer buffer = ByteBuffer.allocate(12 + 4 * roots.length + nodes * (4 + 8 + 4 + 4 + 8))
+                .order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC).putInt(roots.length).putInt(nodes);
+        for (int root : roots) buffer.putInt(root);
+        for (int i = 0; i < nodes; i++) {
+            buffer.putInt(feature[i]).putDouble(threshold[i]).putInt(left[i]).putInt(right[i]).putDouble(value[i]);
+        }
+        buffer.flip();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) channel.write(buffer);
+        }
+    }
+
+    public static RandomForest load(Path path) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path)).order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.remaining() < 12 || buffer.getInt() != MAGIC) {
+            throw new IOException("Bukan file model RandomForest: " + path);
+        }
+        int[] roots = new int[buffer.getInt()];
+        int nodes = buffer.getInt();
+        int[] feature = new int[nodes];
+        double[] threshold = new double[nodes];
+        int[] left = new int[nodes];
+        int[] right = new int[nodes];
+        double[] value = new double[nodes];
+        for (int t = 0; t < roots.length; t++) roots[t] = buffer.getInt();
+        for (int i = 0; i < nodes; i++) {
+            feature[i] = buffer.getInt();
+            threshold[i] = buffer.getDouble();
+            left[i] = buffer.getInt();
+            right[i] = buffer.getInt();
+            value[i] = buffer.getDouble();
+        }
+        return new RandomForest(roots, feature, threshold, left, right, value);
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.out.println("Penggunaan: RandomForest <log.csv> <model.bin> [trees] [maxDepth]");
+            return;
+        }
+        int trees = args.length > 2 ? Integer.parseInt(args[2]) : 50;
+        int maxDepth = args.length > 3 ? Integer.parseInt(args[3]) : 8;
+        RandomForest forest = trainFromLog(Paths.get(args[0]), trees, maxDepth, 5, 42L);
+        forest.save(Paths.get(args[1]));
+        System.out.println("Model RandomForest dengan " + forest.treeCount() + " pohon disimpan ke " + args[1]);
+    }
+
+    private static final class Builder {
+        private final double[][] x;
+        private final double[] y;
+        private final int maxDepth;
+        private final int minLeaf;
+        private final int[][] order;
+        private final int[] scratch;
+
+        private int size;
+        private int[] feature = new int[256];
+        private double[] threshold = new double[256];
+        private int[] left = new int[256];
+        private int[] right = new int[256];
+        private double[] value = new double[256];
+
+        Builder(double[][] x, double[] y, int maxDepth, int minLeaf) {
+            this.x = x;
+            this.y = y;
+            this.maxDepth = maxDepth;
+            this.minLeaf = minLeaf;
+            this.order = new int[x.length][];
+            this.scratch = new int[y.length];
+            for (int f = 0; f < x.length; f++) order[f] = sortedRows(x[f]);
+        }
+
+        // Rows of the bootstrap sample (row r repeated counts[r] times), listed in ascending order of each feature.
+        int[][] presorted(int[] counts) {
+            int[][] sorted = new int[x.length][y.length];
+            for (int f = 0; f < x.length; f++) {
+                int k = 0;
+                for (int r : order[f]) {
+                    for (int c = 0; c < counts[r]; c++) sorted[f][k++] = r;
+                }
+            }
+            return sorted;
+        }
+
+        int grow(int[][] sorted, int from, int to, int depth, SplittableRandom rand) {
+            int node = newNode();
+            double sum = 0;
+            for (int i = from; i < to; i++) sum += y[sorted[0][i]];
+            int count = to - from;
+            value[node] = sum / count;
+            feature[node] = -1;
+            if (depth >= maxDepth || count < 2 * minLeaf) return node;
+
+            int bestFeature = -1;
+            double bestThreshold = 0;
+            double bestScore = 0;
+            int first = rand.nextInt(x.length);
+            for (int k = 0; k < x.length; k++) {
+                int f = (first + k) % x.length;
+                double[] column = x[f];
+                int[] rows = sorted[f];
+
+                double leftSum = 0;
+                for (int i = 0; i < count - 1; i++) {
+                    leftSum += y[rows[from + i]];
+                    int nl = i + 1, nr = count - nl;
+                    if (nl < minLeaf || nr < minLeaf) continue;
+                    double a = column[rows[from + i]], b = column[rows[from + i + 1]];
+                    if (a == b) continue;
+                    double rightSum = sum - leftSum;
+                    double score = leftSum * leftSum / nl + rightSum * rightSum / nr - sum * sum / count;
+                    if (score > bestScore + 1e-12) {
+                        bestScore = score;
+                        bestFeature = f;
+                        double midpoint = a + (b - a) / 2;
+                        bestThreshold = midpoint < b ? midpoint : a;
+                    }
+                }
+            }
+            if (bestFeature < 0) return node;
+
+            double[] column = x[bestFeature];
+            int mid = from;
+            for (int[] rows : sorted) mid = partition(rows, from, to, column, bestThreshold);
+            feature[node] = bestFeature;
+            threshold[node] = bestThreshold;
+            int l = grow(sorted, from, mid, depth + 1, rand);
+            int r = grow(sorted, mid, to, depth + 1, rand);
+            left[node] = l;
+            right[node] = r;
+            return node;
+        }
+
+        // Stable partition, so every feature's segment stays sorted for the children.
+        private int partition(int[] rows, int from, int to, double[] column, double threshold) {
+            int mid = from;
+            int spill = 0;
+            for (int i = from; i < to; i++) {
+                int r = rows[i];
+                if (column[r] <= threshold) rows[mid++] = r;
+                else scratch[spill++] = r;
+            }
+            System.arraycopy(scratch, 0, rows, mid, spill);
+            return mid;
+        }
+
+        private static int[] sortedRows(double[] column) {
+            int n = column.length;
+            double[] distinct = column.clone();
+            Arrays.sort(distinct);
+            long[] keys = new long[n];
+            for (int r = 0; r < n; r++) {
+                keys[r] = (long) Arrays.binarySearch(distinct, column[r]) << 32 | r;
+            }
+            Arrays.sort(keys);
+            int[] rows = new int[n];
+            for (int i = 0; i < n; i++) rows[i] = (int) keys[i];
+            return rows;
+        }
+
+        private int newNode() {
+            if (size == feature.length) {
+                int n = size * 2;
+                feature = Arrays.copyOf(feature, n);
+                threshold = Arrays.copyOf(threshold, n);
+                left = Arrays.copyOf(left, n);
+                right = Arrays.copyOf(right, n);
+                value = Arrays.copyOf(value, n);
+            }
+            return size++;
+        }
+
+        RandomForest build(int[] roots) {
+            return new RandomForest(roots, Arrays.copyOf(feature, size), Arrays.copyOf(threshold, size),
+                    Arrays.copyOf(left, size), Arrays.copyOf(right, size), Arrays.copyOf(value, size));
+        }
+    }
+}
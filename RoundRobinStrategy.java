@@ -0,0 +1,18 @@
+package simple;
+
+public class RoundRobinStrategy implements SchedulingStrategy {
+
+    @Override
+    public String name() {
+        return "RoundRobin";
+    }
+
+    @Override
+    public int[] schedule(Workload workload) {
+        int[] genome = new int[workload.cloudletCount()];
+        for (int c = 0; c < genome.length; c++) {
+            genome[c] = c % workload.vmCount();
+        }
+        return genome;
+    }
+}
@@ -0,0 +1,8 @@
+package simple;
+
+public interface SchedulingStrategy {
+
+    String name();
+
+    int[] schedule(Workload workload);
+}
@@ -0,0 +1,286 @@
+package simple;
+
+import java.util.*;
+import java.util.concurrent.*;
+import org.cloudbus.cloudsim.Cloudlet;
+import org.cloudbus.cloudsim.Vm;
+
+public class ShardedTreeSeedScheduler {
+
+    public enum Partition { LENGTH_CLASS, ARRIVAL_WINDOW }
+
+    private static final int REBALANCE_CANDIDATES = 64;
+
+    private final Workload workload;
+    private int shardCount = Runtime.getRuntime().availableProcessors();
+    private Partition partition = Partition.LENGTH_CLASS;
+    private int populationSize = 10;
+    private int maxIter = 20;
+    private int rebalanceMoves = -1;
+    private long masterSeed = new Random().nextLong();
+    private RandomForest randomForest = new RandomForest();
+
+    private int[] bestGenome;
+    private double bestFitness = Double.MAX_VALUE;
+    private double makespan;
+
+    public ShardedTreeSeedScheduler(List<Vm> vms, List<Cloudlet> cloudlets) {
+        this(Workload.of(vms, cloudlets));
+    }
+
+    public ShardedTreeSeedScheduler(Workload workload) {
+        this.workload = workload;
+    }
+
+    public void setShardCount(int shardCount) {
+        this.shardCount = Math.max(1, shardCount);
+    }
+
+    public void setPartition(Partition partition) {
+        this.partition = partition;
+    }
+
+    public void setPopulationSize(int populationSize) {
+        this.populationSize = populationSize;
+    }
+
+    public void setMaxIterations(int maxIter) {
+        this.maxIter = maxIter;
+    }
+
+    public void setRebalanceMoves(int rebalanceMoves) {
+        this.rebalanceMoves = rebalanceMoves;
+    }
+
+    public void setSeed(long masterSeed) {
+        this.masterSeed = masterSeed;
+    }
+
+    public void setRandomForest(RandomForest randomForest) {
+        this.randomForest = randomForest;
+    }
+
+    public void optimizeMapping() {
+        int n = workload.cloudletCount();
+        int vmCount = workload.vmCount();
+        int shards = Math.max(1, Math.min(shardCount, Math.min(vmCount, n)));
+        System.out.println("🔄 Memulai optimasi TSA Sharded (" + shards + " shard, partisi " + partition + ")...");
+        long startTime = System.currentTimeMillis();
+
+        int[][] shardCloudlets = partitionCloudlets(shards);
+        double[] work = new double[shards];
+        double totalWork = 0;
+        for (int k = 0; k < shards; k++) {
+            for (int c : shardCloudlets[k]) work[k] += workload.length[c];
+            totalWork += work[k];
+        }
+        int[][] shardVms = assignVms(shardCloudlets, work, totalWork);
+
+        int cores = Runtime.getRuntime().availableProcessors();
+        int threads = Math.min(shards, cores);
+        int[] parallelism = new int[shards];
+        for (int k = 0; k < shards; k++) {
+            double share = totalWork == 0 ? 1.0 / shards : work[k] / totalWork;
+            parallelism[k] = Math.max(1, (int) Math.round(cores * share));
+        }
+        int[] genome = new int[n];
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int k = 0; k < shards; k++) {
+                if (shardCloudlets[k].length == 0) continue;
+                int shard = k;
+                futures.add(executor.submit(() -> {
+                    try (TreeSeedScheduler scheduler = new TreeSeedScheduler(subWorkload(shardCloudlets[shard], shardVms[shard]))) {
+                        scheduler.setSeed(masterSeed + 0xBF58476D1CE4E5B9L * (shard + 1));
+                        scheduler.setRandomForest(randomForest);
+                        scheduler.setPopulationSize(populationSize);
+                        scheduler.setMaxIterations(maxIter);
+                        scheduler.setParallelism(parallelism[shard]);
+                        scheduler.setVerbose(false);
+                        scheduler.optimizeMapping();
+
+                        int[] local = scheduler.getBestGenome();
+                        for (int i = 0; i < local.length; i++) {
+                            genome[shardCloudlets[shard][i]] = shardVms[shard][local[i]];
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Optimasi shard terinterupsi", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Optimasi shard gagal", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        double[] vmLoad = new double[vmCount];
+        for (int c = 0; c < n; c++) vmLoad[genome[c]] += workload.execTime(c, genome[c]);
+        double before = Arrays.stream(vmLoad).max().orElse(0);
+
+        int moves = rebalance(genome, vmLoad, rebalanceMoves < 0 ? 16 * vmCount : rebalanceMoves);
+        makespan = Arrays.stream(vmLoad).max().orElse(0);
+        bestFitness = TreeSeedScheduler.fitness(vmLoad, makespan);
+        bestGenome = genome;
+
+        long duration = System.currentTimeMillis() - startTime;
+        System.out.printf("Rebalancing: %d pemindahan, makespan %.2f → %.2f%n", moves, before, makespan);
+        System.out.printf("Fitness terbaik dari %d shard: %.4f%n", shards, bestFitness);
+        System.out.println("✅ Optimasi selesai dalam " + (duration / 1000.0) + " detik.");
+    }
+
+    private int[][] partitionCloudlets(int shards) {
+        int n = workload.cloudletCount();
+        int[] order;
+        if (partition == Partition.LENGTH_CLASS) {
+            order = workload.lengthOrder();
+        } else {
+            order = new int[n];
+            for (int c = 0; c < n; c++) order[c] = c;
+        }
+
+        // Count-balanced boundaries: a heavy-tailed length mix would leave one length quantile with most cloudlets.
+        int[][] shardCloudlets = new int[shards][];
+        for (int k = 0; k < shards; k++) {
+            int from = (int) ((long) k * n / shards);
+            int to = (int) ((long) (k + 1) * n / shards);
+            shardCloudlets[k] = Arrays.copyOfRange(order, from, to);
+        }
+        return shardCloudlets;
+    }
+
+    private int[][] assignVms(int[][] shardCloudlets, double[] work, double totalWork) {
+        int shards = shardCloudlets.length;
+        int occupied = 0;
+        for (int[] cloudlets : shardCloudlets) {
+            if (cloudlets.length > 0) occupied++;
+        }
+        double totalCapacity = 0;
+        for (double m : workload.mips) totalCapacity += m;
+
+        Integer[] byMips = new Integer[workload.vmCount()];
+        for (int v = 0; v < byMips.length; v++) byMips[v] = v;
+        Arrays.sort(byMips, (a, b) -> Double.compare(workload.mips[b], workload.mips[a]));
+
+        double[] capacity = new double[shards];
+        List<List<Integer>> members = new ArrayList<>();
+        for (int k = 0; k < shards; k++) members.add(new ArrayList<>());
+        for (int v : byMips) {
+            int target = -1;
+            double bestDeficit = Double.NEGATIVE_INFINITY;
+            for (int k = 0; k < shards; k++) {
+                if (shardCloudlets[k].length == 0) continue;
+                double share = totalWork == 0 ? 1.0 / occupied : work[k] / totalWork;
+                double deficit = members.get(k).isEmpty() ? Double.POSITIVE_INFINITY : share * totalCapacity - capacity[k];
+                if (deficit > bestDeficit) {
+                    bestDeficit = deficit;
+                    target = k;
+                }
+            }
+            if (target < 0) break;
+            members.get(target).add(v);
+            capacity[target] += workload.mips[v];
+        }
+
+        int[][] shardVms = new int[shards][];
+        for (int k = 0; k < shards; k++) {
+            shardVms[k] = members.get(k).stream().mapToInt(Integer::intValue).sorted().toArray();
+        }
+        return shardVms;
+    }
+
+    private Workload subWorkload(int[] cloudlets, int[] vms) {
+        int[] cloudletIds = new int[cloudlets.length];
+        double[] length = new double[cloudlets.length];
+        for (int i = 0; i < cloudlets.length; i++) {
+            cloudletIds[i] = workload.cloudletIds[cloudlets[i]];
+            length[i] = workload.length[cloudlets[i]];
+        }
+        int[] vmIds = new int[vms.length];
+        double[] mips = new double[vms.length];
+        for (int i = 0; i < vms.length; i++) {
+            vmIds[i] = workload.vmIds[vms[i]];
+            mips[i] = workload.mips[vms[i]];
+        }
+        return Workload.of(cloudletIds, length, vmIds, mips);
+    }
+
+    private int rebalance(int[] genome, double[] vmLoad, int maxMoves) {
+        int vmCount = vmLoad.length;
+        int[] size = new int[vmCount];
+        for (int vm : genome) size[vm]++;
+        int[][] members = new int[vmCount][];
+        for (int v = 0; v < vmCount; v++) members[v] = new int[Math.max(4, size[v])];
+        int[] position = new int[genome.length];
+        Arrays.fill(size, 0);
+        for (int c = 0; c < genome.length; c++) {
+            int v = genome[c];
+            position[c] = size[v];
+            members[v][size[v]++] = c;
+        }
+
+        VmLoadTree loads = new VmLoadTree(vmLoad);
+        int moves = 0;
+        while (moves < maxMoves) {
+            int from = loads.mostLoaded();
+            int to = loads.leastLoaded();
+            if (from == to || size[from] == 0) break;
+
+            double fromLoad = loads.get(from);
+            double toLoad = loads.get(to);
+            int best = -1;
+            double bestPeak = fromLoad;
+            int scanned = Math.min(size[from], REBALANCE_CANDIDATES);
+            int offset = moves % size[from];
+            for (int i = 0; i < scanned; i++) {
+                int c = members[from][(offset + i) % size[from]];
+                double peak = Math.max(fromLoad - workload.execTime(c, from), toLoad + workload.execTime(c, to));
+                if (peak < bestPeak) {
+                    bestPeak = peak;
+                    best = c;
+                }
+            }
+            if (best < 0) break;
+
+            int last = members[from][--size[from]];
+            members[from][position[best]] = last;
+            position[last] = position[best];
+            if (size[to] == members[to].length) members[to] = Arrays.copyOf(members[to], size[to] * 2);
+            position[best] = size[to];
+            members[to][size[to]++] = best;
+
+            genome[best] = to;
+            loads.add(from, -workload.execTime(best, from));
+            loads.add(to, workload.execTime(best, to));
+            moves++;
+        }
+        return moves;
+    }
+
+    public int[] getBestGenome() {
+        return bestGenome;
+    }
+
+    public double getBestFitness() {
+        return bestFitness;
+    }
+
+    public double getMakespan() {
+        return makespan;
+    }
+
+    public Map<Integer, Integer> getBestMapping() {
+        if (bestGenome == null) return null;
+        Map<Integer, Integer> mapping = new HashMap<>();
+        for (int c = 0; c < bestGenome.length; c++) {
+            mapping.put(workload.cloudletIds[c], bestGenome[c]);
+        }
+        return mapping;
+    }
+}
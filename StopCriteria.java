@@ -0,0 +1,68 @@
+package simple;
+
+import java.time.Duration;
+
+public final class StopCriteria {
+
+    public enum Reason { MAX_ITERATIONS, STAGNATION, DEADLINE, MAX_EVALUATIONS, CANCELLED }
+
+    private final int maxIterations;
+    private final int stagnationIterations;
+    private final double relativeEpsilon;
+    private final long maxEvaluations;
+    private final Duration timeBudget;
+
+    private StopCriteria(int maxIterations, int stagnationIterations, double relativeEpsilon,
+                         long maxEvaluations, Duration timeBudget) {
+        this.maxIterations = maxIterations;
+        this.stagnationIterations = stagnationIterations;
+        this.relativeEpsilon = relativeEpsilon;
+        this.maxEvaluations = maxEvaluations;
+        this.timeBudget = timeBudget;
+    }
+
+    public static StopCriteria none() {
+        return new StopCriteria(Integer.MAX_VALUE, 0, 0, Long.MAX_VALUE, null);
+    }
+
+    public static StopCriteria maxIterations(int maxIterations) {
+        return none().withMaxIterations(maxIterations);
+    }
+
+    public StopCriteria withMaxIterations(int maxIterations) {
+        return new StopCriteria(maxIterations, stagnationIterations, relativeEpsilon, maxEvaluations, timeBudget);
+    }
+
+    public StopCriteria withStagnation(int iterations, double relativeEpsilon) {
+        return new StopCriteria(maxIterations, iterations, relativeEpsilon, maxEvaluations, timeBudget);
+    }
+
+    public StopCriteria withMaxEvaluations(long maxEvaluations) {
+        return new StopCriteria(maxIterations, stagnationIterations, relativeEpsilon, maxEvaluations, timeBudget);
+    }
+
+    public StopCriteria withTimeBudget(Duration timeBudget) {
+        return new StopCriteria(maxIterations, stagnationIterations, relativeEpsilon, maxEvaluations, timeBudget);
+    }
+
+    int maxIterations() {
+        return maxIterations;
+    }
+
+    long maxEvaluations() {
+        return maxEvaluations;
+    }
+
+    Duration timeBudget() {
+        return timeBudget;
+    }
+
+    boolean improved(double previous, double current) {
+        if (previous == Double.MAX_VALUE) return current < previous;
+        return previous - current > relativeEpsilon * Math.abs(previous);
+    }
+
+    boolean stagnated(int iterationsWithoutImprovement) {
+        return stagnationIterations > 0 && iterationsWithoutImprovement >= stagnationIterations;
+    }
+}
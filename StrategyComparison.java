@@ -0,0 +1,82 @@
+package simple;
+
+import org.cloudbus.cloudsim.*;
+import org.cloudbus.cloudsim.core.CloudSim;
+import java.util.*;
+
+public class StrategyComparison {
+
+    public static void main(String[] args) {
+        String datasetPath = args.length > 0 ? args[0] : "datasets/SDSC/SDSCDataset.txt";
+
+        List<SchedulingStrategy> strategies = Arrays.asList(
+                new RoundRobinStrategy(),
+                new MctStrategy(),
+                new MinMinStrategy(),
+                new MaxMinStrategy(),
+                new LptStrategy(),
+                new TreeSeedStrategy()
+        );
+
+        System.out.println("\n=================================================");
+        System.out.println("=== Membandingkan " + strategies.size() + " strategi untuk Dataset: " + datasetPath + " ===");
+        System.out.println("=================================================");
+
+        try {
+            TopologySpec topology = TopologySpec.fromSystemProperty();
+            double[] dataset = TSA.loadDataset(datasetPath);
+            List<Vm> placed = TSA.placeVMs(topology.createVms(0), new IndexedVmAllocationPolicy(topology.createHosts()), true);
+            Workload workload = Workload.of(placed, TSA.createCloudlets(0, dataset));
+
+            Map<String, TSA.SimulationResult> results = new LinkedHashMap<>();
+            for (SchedulingStrategy strategy : strategies) {
+                System.out.println("\n▶ Strategi: " + strategy.name());
+                long start = System.nanoTime();
+                int[] genome = strategy.schedule(workload);
+                System.out.printf("Waktu penjadwalan: %.3f ms%n", (System.nanoTime() - start) / 1e6);
+                results.put(strategy.name(), simulate(strategy.name(), dataset, topology, genome));
+            }
+
+            System.out.println("\n\n==========================================================================================================================================================================================");
+            System.out.printf("%-12s %-15s %-18s %-18s %-18s %-20s %-20s %-15s %-15s %-20s %-22s %-25s%n",
+                    "Strategi", "Jumlah Task", "Total CPU Time", "Total Wait Time", "Avg Start Time",
+                    "Avg Exec Time", "Avg Finish Time", "Throughput", "Makespan",
+                    "Imbalance Degree", "Resource Utilization", "Total Energy Consumption");
+            System.out.println("==========================================================================================================================================================================================");
+            for (Map.Entry<String, TSA.SimulationResult> e : results.entrySet()) {
+                System.out.printf("%-12s %s%n", e.getKey(), e.getValue());
+            }
+            System.out.println("==========================================================================================================================================================================================");
+            for (Map.Entry<String, TSA.SimulationResult> e : results.entrySet()) {
+                System.out.println("\n" + e.getKey());
+                System.out.println(e.getValue().percentiles());
+            }
+
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static TSA.SimulationResult simulate(String name, double[] dataset, TopologySpec topology, int[] genome) throws Exception {
+        CloudSim.init(1, Calendar.getInstance(), false);
+
+        List<Host> hosts = topology.createHosts();
+        IndexedVmAllocationPolicy allocation = new IndexedVmAllocationPolicy(hosts);
+        TSA.createDatacenter("Datacenter_" + name, hosts, allocation);
+        DatacenterBroker broker = new DatacenterBroker("Broker_" + name);
+
+        List<Vm> vms = TSA.placeVMs(topology.createVms(broker.getId()), allocation, false);
+        List<Cloudlet> cloudlets = TSA.createCloudlets(broker.getId(), dataset);
+        for (int i = 0; i < cloudlets.size(); i++) {
+            cloudlets.get(i).setVmId(vms.get(genome[i]).getId());
+        }
+
+        broker.submitVmList(vms);
+        broker.submitCloudletList(cloudlets);
+
+        CloudSim.startSimulation();
+        CloudSim.stopSimulation();
+
+        return TSA.calculateMetrics(broker.getCloudletReceivedList(), vms, dataset.length);
+    }
+}
@@ -21,6 +21,20 @@ public class TSA {
         double imbalanceDegree;
         double resourceUtilization;
         double totalEnergyConsumption;
+        double waitP50, waitP95, waitP99, waitMax;
+        double startP50, startP95, startP99, startMax;
+        double finishP50, finishP95, finishP99, finishMax;
+
+        String percentiles() {
+            DecimalFormat df = new DecimalFormat("0.00");
+            return String.format(
+                    "%-15s %-15s %-15s %-15s %-15s%n%-15s %-15s %-15s %-15s %-15s%n%-15s %-15s %-15s %-15s %-15s%n%-15s %-15s %-15s %-15s %-15s",
+                    "", "p50", "p95", "p99", "max",
+                    "Wait Time", df.format(waitP50), df.format(waitP95), df.format(waitP99), df.format(waitMax),
+                    "Start Time", df.format(startP50), df.format(startP95), df.format(startP99), df.format(startMax),
+                    "Finish Time", df.format(finishP50), df.format(finishP95), df.format(finishP99), df.format(finishMax)
+            );
+        }
 
         @Override
         public String toString() {
@@ -59,22 +73,52 @@ public class TSA {
         try {
             CloudSim.init(1, Calendar.getInstance(), false);
 
-            List<Double> dataset = loadDataset(datasetPath);
-            Datacenter datacenter = createDatacenter("Datacenter_TSA_" + size);
+            double[] dataset = loadDataset(datasetPath);
+            TopologySpec topology = TopologySpec.fromSystemProperty();
+            List<Host> hosts = topology.createHosts();
+            IndexedVmAllocationPolicy allocation = new IndexedVmAllocationPolicy(hosts);
+            Datacenter datacenter = createDatacenter("Datacenter_TSA_" + size, hosts, allocation);
             DatacenterBroker broker = new DatacenterBroker("Broker_" + size);
 
-            List<Vm> vms = createVMs(broker.getId(), 10);
+            List<Vm> vms = placeVMs(topology.createVms(broker.getId()), allocation, true);
             List<Cloudlet> cloudlets = createCloudlets(broker.getId(), dataset);
 
             broker.submitVmList(vms);
 
-            TreeSeedScheduler scheduler = new TreeSeedScheduler(vms, cloudlets);
-            scheduler.optimizeMapping();
-            Map<Integer, Integer> bestMap = scheduler.getBestMapping();
+            String model = System.getProperty("tsa.model");
+            RandomForest forest = model == null ? new RandomForest() : RandomForest.load(java.nio.file.Paths.get(model));
+            if (model != null) System.out.println("Model RandomForest dimuat: " + forest.treeCount() + " pohon dari " + model);
+
+            int[] bestGenome;
+            int shards = Integer.getInteger("tsa.shards", 1);
+            if (shards > 1) {
+                ShardedTreeSeedScheduler scheduler = new ShardedTreeSeedScheduler(vms, cloudlets);
+                scheduler.setShardCount(shards);
+                scheduler.setRandomForest(forest);
+                scheduler.optimizeMapping();
+                bestGenome = scheduler.getBestGenome();
+            } else {
+                TreeSeedScheduler scheduler = new TreeSeedScheduler(vms, cloudlets);
+                scheduler.setRandomForest(forest);
+                scheduler.setOffHeapPopulation(Boolean.getBoolean("tsa.offHeap"));
+                String checkpoint = System.getProperty("tsa.checkpoint");
+                if (checkpoint != null) {
+                    java.nio.file.Path checkpointPath = java.nio.file.Paths.get(checkpoint);
+                    scheduler.setCheckpoint(checkpointPath, Integer.getInteger("tsa.checkpointInterval", 5));
+                    if (java.nio.file.Files.exists(checkpointPath)) {
+                        try {
+                            scheduler.resumeFrom(checkpointPath);
+                        } catch (IOException e) {
+                            System.out.println("⚠️ Checkpoint diabaikan, optimasi dimulai dari awal: " + e.getMessage());
+                        }
+                    }
+                }
+                scheduler.optimizeMapping();
+                bestGenome = scheduler.getBestGenome();
+            }
 
-            for (Cloudlet c : cloudlets) {
-                int vmIndex = bestMap.get((int) c.getCloudletId());
-                c.setVmId(vms.get(vmIndex).getId());
+            for (int i = 0; i < cloudlets.size(); i++) {
+                cloudlets.get(i).setVmId(vms.get(bestGenome[i]).getId());
             }
             broker.submitCloudletList(cloudlets);
 
@@ -82,7 +126,23 @@ public class TSA {
             CloudSim.stopSimulation();
 
             List<Cloudlet> finished = broker.getCloudletReceivedList();
-            SimulationResult result = calculateMetrics(finished, vms, dataset.size());
+            SimulationResult result = calculateMetrics(finished, vms, dataset.length);
+
+            String trainingLog = System.getProperty("tsa.rfLog");
+            if (trainingLog != null) writeTrainingLog(java.nio.file.Paths.get(trainingLog), finished, vms);
+
+            if (Boolean.getBoolean("tsa.validateAnalytic")) {
+                Map<Integer, Integer> indexById = new HashMap<>(vms.size() * 2);
+                for (int v = 0; v < vms.size(); v++) indexById.put(vms.get(v).getId(), v);
+                boolean[] placed = new boolean[vms.size()];
+                for (Vm vm : broker.getVmsCreatedList()) {
+                    Integer v = indexById.get(vm.getId());
+                    if (v != null) placed[v] = true;
+                }
+                ExecutionTrace analytic = new AnalyticSimulator(Workload.of(vms, cloudlets)).simulate(bestGenome, placed);
+                AnalyticSimulator.validate(analytic, calculateMetrics(analytic, vms.size(), dataset.length),
+                        ExecutionTrace.of(finished, vms), result);
+            }
 
             System.out.println("\n\n==========================================================================================================================================================================================");
             System.out.printf("%-15s %-18s %-18s %-18s %-20s %-20s %-15s %-15s %-20s %-22s %-25s%n",
@@ -92,48 +152,88 @@ public class TSA {
             System.out.println("==========================================================================================================================================================================================");
             System.out.println(result);
             System.out.println("==========================================================================================================================================================================================");
+            System.out.println(result.percentiles());
 
         } catch (Exception e) {
             e.printStackTrace();
         }
     }
 
-    private static List<Double> loadDataset(String path) throws IOException {
-        List<Double> data = new ArrayList<>();
-        java.io.File file = new java.io.File(path);
-        if (!file.exists()) throw new FileNotFoundException("Dataset file not found: " + path);
+    static double[] loadDataset(String path) throws IOException {
+        double[] data = DatasetLoader.load(path);
+        System.out.println("Jumlah data dimuat: " + data.length);
+        return data;
+    }
 
-        try (BufferedReader br = new BufferedReader(new FileReader(file))) {
-            String line;
-            while ((line = br.readLine()) != null) {
-                if (!line.trim().isEmpty()) data.add(Double.parseDouble(line.trim()));
+    // One "length,mips,outcome" row per finished cloudlet. The outcome is 1 when the cloudlet's VM finished
+    // no later than the average VM, i.e. the placement can be kept; RandomForest.main trains a model from it.
+    static void writeTrainingLog(java.nio.file.Path path, List<Cloudlet> finished, List<Vm> vms) throws IOException {
+        ExecutionTrace trace = ExecutionTrace.of(finished, vms);
+        double[] vmFinish = new double[vms.size()];
+        for (int i = 0; i < trace.size(); i++) {
+            int v = trace.vmIndex[i];
+            if (v >= 0) vmFinish[v] = Math.max(vmFinish[v], trace.finishTime[i]);
+        }
+        double total = 0;
+        int used = 0;
+        for (double f : vmFinish) {
+            if (f > 0) {
+                total += f;
+                used++;
             }
         }
-        System.out.println("Jumlah data dimuat: " + data.size());
-        return data;
+        double average = used == 0 ? 0 : total / used;
+
+        int i = 0;
+        try (BufferedWriter out = java.nio.file.Files.newBufferedWriter(path)) {
+            out.write("# length,mips,outcome");
+            out.newLine();
+            for (Cloudlet cloudlet : finished) {
+                if (cloudlet.getCloudletStatus() != Cloudlet.SUCCESS) continue;
+                int v = trace.vmIndex[i++];
+                if (v < 0) continue;
+                out.write(cloudlet.getCloudletLength() + "," + vms.get(v).getMips() + "," + (vmFinish[v] <= average ? 1 : 0));
+                out.newLine();
+            }
+        }
+        System.out.println("Log pelatihan RandomForest ditulis ke " + path + " (" + i + " baris)");
     }
 
-    private static Datacenter createDatacenter(String name) throws Exception {
-        List<Host> hostList = new ArrayList<>();
-        for (int i = 0; i < 3; i++) {
-            List<Pe> peList = new ArrayList<>();
-            peList.add(new Pe(0, new PeProvisionerSimple(1000)));
-            hostList.add(new Host(
-                    i, new RamProvisionerSimple(2048),
-                    new BwProvisionerSimple(10000),
-                    1000000, peList, new VmSchedulerTimeShared(peList)
-            ));
-        }
+    static Datacenter createDatacenter(String name, List<Host> hostList, VmAllocationPolicy allocation) throws Exception {
         return new Datacenter(
                 name,
                 new DatacenterCharacteristics("x86", "Linux", "Xen", hostList, 10.0, 3.0, 0.05, 0.1, 0.1),
-                new VmAllocationPolicySimple(hostList),
+                allocation,
                 new LinkedList<>(),
                 0
         );
     }
 
-    private static List<Vm> createVMs(int brokerId, int count) {
+    static List<Vm> placeVMs(List<Vm> vms, IndexedVmAllocationPolicy allocation, boolean report) {
+        List<Vm> rejected = allocation.plan(vms);
+        if (report) {
+            System.out.println("Host: " + allocation.getHostList().size() + ", VM diminta: " + vms.size()
+                    + ", VM ditempatkan: " + (vms.size() - rejected.size()));
+        }
+        if (rejected.isEmpty()) return vms;
+
+        if (report) {
+            StringBuilder ids = new StringBuilder();
+            for (int i = 0; i < Math.min(rejected.size(), 20); i++) {
+                if (i > 0) ids.append(", ");
+                ids.append(rejected.get(i).getId());
+            }
+            if (rejected.size() > 20) ids.append(", ...");
+            System.out.println("⚠️ " + rejected.size() + " VM gagal ditempatkan dan tidak ikut dijadwalkan: [" + ids + "]");
+        }
+        List<Vm> placed = new ArrayList<>(vms.size() - rejected.size());
+        for (Vm vm : vms) {
+            if (allocation.isPlaced(vm)) placed.add(vm);
+        }
+        return placed;
+    }
+
+    static List<Vm> createVMs(int brokerId, int count) {
         List<Vm> vms = new ArrayList<>();
         for (int i = 0; i < count; i++) {
             vms.add(new Vm(
@@ -144,8 +244,8 @@ public class TSA {
         return vms;
     }
 
-    private static List<Cloudlet> createCloudlets(int brokerId, List<Double> dataset) {
-        List<Cloudlet> list = new ArrayList<>();
+    static List<Cloudlet> createCloudlets(int brokerId, double[] dataset) {
+        List<Cloudlet> list = new ArrayList<>(dataset.length);
         UtilizationModel util = new UtilizationModelFull();
         int id = 0;
         for (double val : dataset) {
@@ -156,63 +256,11 @@ public class TSA {
         return list;
     }
 
-    private static SimulationResult calculateMetrics(List<Cloudlet> finishedCloudlets, List<Vm> vms, int numTasks) {
-        SimulationResult result = new SimulationResult();
-        result.numTasks = numTasks;
-
-        double totalCpuTime = 0;
-        double totalWaitTime = 0;
-        double totalStartTime = 0;
-        double totalExecTime = 0;
-        double totalFinishTime = 0;
-        double maxFinishTime = 0;
-
-        Map<Integer, Double> vmTotalLoad = new HashMap<>();
-        for (Vm vm : vms) {
-            vmTotalLoad.put(vm.getId(), 0.0);
-        }
-
-        for (Cloudlet cloudlet : finishedCloudlets) {
-            if (cloudlet.getCloudletStatus() == Cloudlet.SUCCESS) {
-                totalCpuTime += cloudlet.getActualCPUTime();
-                totalWaitTime += cloudlet.getWaitingTime();
-                totalStartTime += cloudlet.getExecStartTime();
-                totalExecTime += cloudlet.getActualCPUTime();
-                totalFinishTime += cloudlet.getFinishTime();
-
-                if (cloudlet.getFinishTime() > maxFinishTime) {
-                    maxFinishTime = cloudlet.getFinishTime();
-                }
-
-                double vmLoad = vmTotalLoad.getOrDefault(cloudlet.getVmId(), 0.0);
-                vmLoad += cloudlet.getActualCPUTime();
-                vmTotalLoad.put(cloudlet.getVmId(), vmLoad);
-            }
-        }
-
-        result.totalCpuTime = totalCpuTime;
-        result.totalWaitTime = totalWaitTime;
-        result.avgStartTime = finishedCloudlets.isEmpty() ? 0 : totalStartTime / finishedCloudlets.size();
-        result.avgExecTime = finishedCloudlets.isEmpty() ? 0 : totalExecTime / finishedCloudlets.size();
-        result.avgFinishTime = finishedCloudlets.isEmpty() ? 0 : totalFinishTime / finishedCloudlets.size();
-        result.makespan = maxFinishTime;
-
-        result.throughput = (maxFinishTime == 0) ? 0 : finishedCloudlets.size() / maxFinishTime;
-
-        double sumLoad = 0;
-        for (double load : vmTotalLoad.values()) sumLoad += load;
-        double avgLoad = sumLoad / vmTotalLoad.size();
-
-        double variance = 0;
-        for (double load : vmTotalLoad.values()) {
-            variance += Math.pow(load - avgLoad, 2);
-        }
-        result.imbalanceDegree = Math.sqrt(variance / vmTotalLoad.size());
-
-        result.resourceUtilization = (vms.size() * maxFinishTime == 0) ? 0 : totalCpuTime / (vms.size() * maxFinishTime);
-        double energyPerVM = 200.0; 
-        result.totalEnergyConsumption = vms.size() * energyPerVM * result.resourceUtilization * 0.1;
+    static SimulationResult calculateMetrics(List<Cloudlet> finishedCloudlets, List<Vm> vms, int numTasks) {
+        return MetricsAggregator.of(finishedCloudlets, vms, numTasks);
+    }
 
-        return result;
+    static SimulationResult calculateMetrics(ExecutionTrace trace, int vmCount, int numTasks) {
+        return MetricsAggregator.of(trace, vmCount, numTasks);
     }
-}
\ No newline at end of file
+}
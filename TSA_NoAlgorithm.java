@@ -59,7 +59,7 @@ public class TSA_NoAlgorithm {
         try {
             CloudSim.init(1, Calendar.getInstance(), false);
 
-            List<Double> dataset = loadDataset(datasetPath);
+            double[] dataset = loadDataset(datasetPath);
             Datacenter datacenter = createDatacenter("Datacenter_NoAlgo_" + size);
             DatacenterBroker broker = new DatacenterBroker("Broker_NoAlgo_" + size);
 
@@ -73,7 +73,7 @@ public class TSA_NoAlgorithm {
             CloudSim.stopSimulation();
 
             List<Cloudlet> finished = broker.getCloudletReceivedList();
-            SimulationResult result = calculateMetrics(finished, vms, dataset.size());
+            SimulationResult result = calculateMetrics(finished, vms, dataset.length);
 
             System.out.println("\n\n==========================================================================================================================================================================================");
             System.out.printf("%-15s %-18s %-18s %-18s %-20s %-20s %-15s %-15s %-20s %-22s %-25s%n",
@@ -89,18 +89,9 @@ public class TSA_NoAlgorithm {
         }
     }
 
-    private static List<Double> loadDataset(String path) throws IOException {
-        List<Double> data = new ArrayList<>();
-        java.io.File file = new java.io.File(path);
-        if (!file.exists()) throw new FileNotFoundException("Dataset file not found: " + path);
-
-        try (BufferedReader br = new BufferedReader(new FileReader(file))) {
-            String line;
-            while ((line = br.readLine()) != null) {
-                if (!line.trim().isEmpty()) data.add(Double.parseDouble(line.trim()));
-            }
-        }
-        System.out.println("Jumlah data dimuat: " + data.size());
+    private static double[] loadDataset(String path) throws IOException {
+        double[] data = DatasetLoader.load(path);
+        System.out.println("Jumlah data dimuat: " + data.length);
         return data;
     }
 
@@ -135,8 +126,8 @@ public class TSA_NoAlgorithm {
         return vms;
     }
 
-    private static List<Cloudlet> createCloudlets(int brokerId, List<Double> dataset, List<Vm> vms) {
-        List<Cloudlet> list = new ArrayList<>();
+    private static List<Cloudlet> createCloudlets(int brokerId, double[] dataset, List<Vm> vms) {
+        List<Cloudlet> list = new ArrayList<>(dataset.length);
         UtilizationModel util = new UtilizationModelFull();
         int id = 0;
         for (double val : dataset) {
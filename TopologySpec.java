@@ -0,0 +1,154 @@
+package simple;
+
+import org.cloudbus.cloudsim.*;
+import org.cloudbus.cloudsim.provisioners.*;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+
+public final class TopologySpec {
+
+    static final class HostClass {
+        final int count;
+        final int pes;
+        final int mipsPerPe;
+        final int ram;
+        final long bw;
+        final long storage;
+
+        HostClass(int count, int pes, int mipsPerPe, int ram, long bw, long storage) {
+            this.count = count;
+            this.pes = pes;
+            this.mipsPerPe = mipsPerPe;
+            this.ram = ram;
+            this.bw = bw;
+            this.storage = storage;
+        }
+    }
+
+    static final class VmClass {
+        final int count;
+        final int pes;
+        final double mips;
+        final int ram;
+        final long bw;
+        final long size;
+
+        VmClass(int count, int pes, double mips, int ram, long bw, long size) {
+            this.count = count;
+            this.pes = pes;
+            this.mips = mips;
+            this.ram = ram;
+            this.bw = bw;
+            this.size = size;
+        }
+    }
+
+    private final List<HostClass> hostClasses = new ArrayList<>();
+    private final List<VmClass> vmClasses = new ArrayList<>();
+
+    public static TopologySpec legacy() {
+        return new TopologySpec()
+                .addHosts(3, 1, 1000, 2048, 10000, 1000000)
+                .addVms(10, 1, 1000, 512, 1000, 10000);
+    }
+
+    public static TopologySpec fromSystemProperty() throws IOException {
+        String path = System.getProperty("tsa.topology");
+        return path == null ? legacy() : load(Paths.get(path));
+    }
+
+    // One class per line, '#' starts a comment:
+    //   host <count> <pes> <mipsPerPe> <ramMb> <bw> <storage>
+    //   vm   <count> <pes> <mips>      <ramMb> <bw> <size>
+    public static TopologySpec load(Path path) throws IOException {
+        TopologySpec spec = new TopologySpec();
+        List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+        for (int n = 0; n < lines.size(); n++) {
+            String line = lines.get(n);
+            int comment = line.indexOf('#');
+            if (comment >= 0) line = line.substring(0, comment);
+            line = line.trim();
+            if (line.isEmpty()) continue;
+
+            String[] f = line.split("\\s+");
+            if (f.length != 7) throw new IOException("Baris " + (n + 1) + ": butuh 7 kolom, ditemukan " + f.length);
+            try {
+                switch (f[0]) {
+                    case "host":
+                        spec.addHosts(Integer.parseInt(f[1]), Integer.parseInt(f[2]), Integer.parseInt(f[3]),
+                                Integer.parseInt(f[4]), Long.parseLong(f[5]), Long.parseLong(f[6]));
+                        break;
+                    case "vm":
+                        spec.addVms(Integer.parseInt(f[1]), Integer.parseInt(f[2]), Double.parseDouble(f[3]),
+                                Integer.parseInt(f[4]), Long.parseLong(f[5]), Long.parseLong(f[6]));
+                        break;
+                    default:
+                        throw new IOException("Baris " + (n + 1) + ": jenis tidak dikenal '" + f[0] + "'");
+                }
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Baris " + (n + 1) + ": " + e.getMessage(), e);
+            }
+        }
+        if (spec.hostClasses.isEmpty() || spec.vmClasses.isEmpty()) {
+            throw new IOException("Topologi harus memuat minimal satu kelas host dan satu kelas vm: " + path);
+        }
+        return spec;
+    }
+
+    public TopologySpec addHosts(int count, int pes, int mipsPerPe, int ram, long bw, long storage) {
+        if (count < 0 || pes <= 0 || mipsPerPe <= 0) throw new IllegalArgumentException("Kelas host tidak valid");
+        hostClasses.add(new HostClass(count, pes, mipsPerPe, ram, bw, storage));
+        return this;
+    }
+
+    public TopologySpec addVms(int count, int pes, double mips, int ram, long bw, long size) {
+        if (count < 0 || pes <= 0 || mips <= 0) throw new IllegalArgumentException("Kelas vm tidak valid");
+        vmClasses.add(new VmClass(count, pes, mips, ram, bw, size));
+        return this;
+    }
+
+    public int hostCount() {
+        int total = 0;
+        for (HostClass h : hostClasses) total += h.count;
+        return total;
+    }
+
+    public int vmCount() {
+        int total = 0;
+        for (VmClass v : vmClasses) total += v.count;
+        return total;
+    }
+
+    public List<Host> createHosts() {
+        List<Host> hosts = new ArrayList<>(hostCount());
+        int id = 0;
+        for (HostClass h : hostClasses) {
+            for (int i = 0; i < h.count; i++) {
+                List<Pe> peList = new ArrayList<>(h.pes);
+                for (int p = 0; p < h.pes; p++) peList.add(new Pe(p, new PeProvisionerSimple(h.mipsPerPe)));
+                hosts.add(new Host(
+                        id++, new RamProvisionerSimple(h.ram),
+                        new BwProvisionerSimple(h.bw),
+                        h.storage, peList, new VmSchedulerTimeShared(peList)
+                ));
+            }
+        }
+        return hosts;
+    }
+
+    public List<Vm> createVms(int brokerId) {
+        List<Vm> vms = new ArrayList<>(vmCount());
+        int id = 0;
+        for (VmClass v : vmClasses) {
+            for (int i = 0; i < v.count; i++) {
+                vms.add(new Vm(
+                        id++, brokerId, v.mips, v.pes, v.ram, v.bw, v.size,
+                        "Xen", new CloudletSchedulerTimeShared()
+                ));
+            }
+        }
+        return vms;
+    }
+}
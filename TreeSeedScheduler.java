@@ -1,129 +1,716 @@
 package simple;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
 import org.cloudbus.cloudsim.Cloudlet;
 import org.cloudbus.cloudsim.Vm;
 
-public class TreeSeedScheduler {
+public class TreeSeedScheduler implements AutoCloseable {
 
-    private List<Vm> vms;
-    private List<Cloudlet> cloudlets;
+    private final Workload workload;
     private int populationSize = 10;
     private int maxIter = 20;
-    private Random rand = new Random();
+    private long masterSeed = new Random().nextLong();
+    private ForkJoinPool pool;
     private RandomForest randomForest;
+    private BitSet rfAcceptsMove;
 
-    private Map<Integer, Integer> bestMapping;
-    private double bestFitness = Double.MAX_VALUE;
+    private volatile BestSolution bestSolution = BestSolution.NONE;
+    private volatile int iteration;
+    private volatile long evaluations;
+    private boolean incrementalEvaluation = true;
+    private boolean verbose = true;
+    private int[] initialMapping;
+    private PopulationInit populationInit = PopulationInit.random();
+    private double[] baseLoad;
+    private int localSearchTopK;
+    private FitnessCache fitnessCache;
+    private final AtomicLong fitnessComputations = new AtomicLong();
+    private final AtomicLong memoHits = new AtomicLong();
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final List<OptimizationListener> listeners = new CopyOnWriteArrayList<>();
+    private long rfTableNanos;
+    private boolean rfTableReported;
+    private volatile Thread allocationOwner;
+    private final LongAdder workerAllocatedBytes = new LongAdder();
+    private LocalSearch localSearch;
+    private boolean offHeapPopulation;
+    private PackedPopulation packedPopulation;
+    private Path checkpointPath;
+    private int checkpointInterval;
+    private Checkpoint resume;
 
     public TreeSeedScheduler(List<Vm> vms, List<Cloudlet> cloudlets) {
-        this.vms = vms;
-        this.cloudlets = cloudlets;
-        this.randomForest = new RandomForest();
+        this(Workload.of(vms, cloudlets));
+    }
+
+    public TreeSeedScheduler(Workload workload) {
+        this.workload = workload;
+        setRandomForest(new RandomForest());
+    }
+
+    public void setRandomForest(RandomForest randomForest) {
+        long start = System.nanoTime();
+        this.randomForest = randomForest;
+        this.rfAcceptsMove = predictionTable(randomForest);
+        this.rfTableNanos = System.nanoTime() - start;
+        this.rfTableReported = false;
+    }
+
+    public void setIncrementalEvaluation(boolean incrementalEvaluation) {
+        this.incrementalEvaluation = incrementalEvaluation;
+    }
+
+    public void setSeed(long masterSeed) {
+        this.masterSeed = masterSeed;
+    }
+
+    public void setParallelism(int threads) {
+        ForkJoinPool previous = pool;
+        if (previous != null && previous.getParallelism() == threads) return;
+        this.pool = threads > 1 ? new ForkJoinPool(threads) : null;
+        if (previous != null) previous.shutdown();
+    }
+
+    @Override
+    public void close() {
+        setParallelism(1);
+    }
+
+    public void setVerbose(boolean verbose) {
+        this.verbose = verbose;
+    }
+
+    public void setInitialMapping(int[] genome) {
+        this.initialMapping = genome == null ? null : genome.clone();
+    }
+
+    public void setPopulationInit(PopulationInit populationInit) {
+        this.populationInit = populationInit;
+    }
+
+    public void setLocalSearch(int topK, int maxSteps) {
+        this.localSearchTopK = topK;
+        this.localSearch = topK > 0 ? new LocalSearch(this, workload, maxSteps, 32) : null;
+    }
+
+    public void addListener(OptimizationListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(OptimizationListener listener) {
+        listeners.remove(listener);
+    }
+
+    public void setFitnessCache(int capacity) {
+        this.fitnessCache = capacity > 0 ? new FitnessCache(capacity) : null;
+    }
+
+    public void setBaseLoad(double[] baseLoad) {
+        this.baseLoad = baseLoad == null ? null : baseLoad.clone();
+    }
+
+    public void setOffHeapPopulation(boolean offHeapPopulation) {
+        this.offHeapPopulation = offHeapPopulation;
+    }
+
+    public void setCheckpoint(Path path, int interval) {
+        this.checkpointPath = interval > 0 ? path : null;
+        this.checkpointInterval = interval;
+    }
+
+    public void resumeFrom(Path path) throws IOException {
+        Checkpoint checkpoint = Checkpoint.read(path);
+        if (checkpoint.cloudletCount != workload.cloudletCount() || checkpoint.vmCount != workload.vmCount()) {
+            throw new IOException("Checkpoint " + path + " dibuat untuk " + checkpoint.cloudletCount + " cloudlet / "
+                    + checkpoint.vmCount + " VM, bukan " + workload.cloudletCount() + " / " + workload.vmCount());
+        }
+        if (checkpoint.fingerprint != checkpointFingerprint()) {
+            throw new IOException("Checkpoint " + path + " dibuat untuk workload, base load atau maxIter yang berbeda");
+        }
+        this.masterSeed = checkpoint.masterSeed;
+        this.populationSize = checkpoint.populationSize;
+        this.resume = checkpoint;
+    }
+
+    public void setPopulationSize(int populationSize) {
+        this.populationSize = populationSize;
+    }
+
+    public void setMaxIterations(int maxIter) {
+        this.maxIter = maxIter;
     }
 
     public void optimizeMapping() {
-        System.out.println("🔄 Memulai optimasi TSA Balanced+EnergyAware...");
+        run(null, StopCriteria.maxIterations(maxIter), () -> false);
+    }
+
+    public int[] optimizeMapping(Duration budget, StopCriteria criteria) {
+        run(budget, criteria, () -> false);
+        return bestSolution.genome;
+    }
+
+    public OptimizationHandle optimizeAsync(Duration budget, StopCriteria criteria) {
+        return OptimizationHandle.start(this, budget, criteria);
+    }
+
+    StopCriteria.Reason run(Duration budget, StopCriteria criteria, BooleanSupplier cancelled) {
+        if (verbose) System.out.println("🔄 Memulai optimasi TSA Balanced+EnergyAware...");
         long startTime = System.currentTimeMillis();
+        long deadline = deadline(System.nanoTime(), budget, criteria.timeBudget());
+        int limit = criteria.maxIterations();
 
-        List<Map<Integer, Integer>> population = new ArrayList<>();
-        for (int i = 0; i < populationSize; i++) {
-            population.add(randomMapping());
+        int start = 0;
+        int stagnant = 0;
+        Individual[] population;
+        if (resume != null) {
+            population = restorePopulation(resume);
+            start = resume.iteration;
+            stagnant = resume.stagnant;
+            evaluations = resume.evaluations;
+            bestSolution = new BestSolution(resume.bestGenome(), resume.bestFitness);
+            resume = null;
+            if (verbose) System.out.println("▶ Melanjutkan dari checkpoint iterasi " + start);
+        } else {
+            evaluations = 0;
+            population = initialPopulation();
+        }
+        iteration = start;
+        if (verbose && packedPopulation != null) {
+            System.out.printf("Populasi off-heap: %.1f MB (%d-bit per gen)%n",
+                    packedPopulation.bytes() / (1024.0 * 1024.0), packedPopulation.width() * 8);
         }
 
-        for (int iter = 0; iter < maxIter; iter++) {
-            List<Map<Integer, Integer>> newPopulation = new ArrayList<>();
+        CheckpointWriter checkpoints = checkpointPath == null ? null : new CheckpointWriter(checkpointPath);
+        long fingerprint = checkpoints == null ? 0 : checkpointFingerprint();
+        StopCriteria.Reason reason;
+        for (int iter = start; ; iter++) {
+            if (iter >= limit) {
+                reason = StopCriteria.Reason.MAX_ITERATIONS;
+                break;
+            }
+            if (cancelled.getAsBoolean()) {
+                reason = StopCriteria.Reason.CANCELLED;
+                break;
+            }
+            if (iter > start && System.nanoTime() - deadline >= 0) {
+                reason = StopCriteria.Reason.DEADLINE;
+                break;
+            }
+            if (iter > start && evaluations + population.length > criteria.maxEvaluations()) {
+                reason = StopCriteria.Reason.MAX_EVALUATIONS;
+                break;
+            }
+
+            double previous = bestSolution.fitness;
+            boolean interruptible = iter > start;
+            Individual[] next = nextGeneration(population, iter,
+                    () -> cancelled.getAsBoolean() || interruptible && System.nanoTime() - deadline >= 0);
+            if (next == null) {
+                reason = cancelled.getAsBoolean() ? StopCriteria.Reason.CANCELLED : StopCriteria.Reason.DEADLINE;
+                break;
+            }
+            population = next;
+            iteration = iter + 1;
+            BestSolution best = bestSolution;
+            stagnant = criteria.improved(previous, best.fitness) ? 0 : stagnant + 1;
+            if (checkpoints != null && iteration % checkpointInterval == 0) {
+                checkpoints.offer(fingerprint, masterSeed, iteration, evaluations, stagnant, best.fitness, best.genome,
+                        population, workload.vmCount());
+            }
+
+            if ((iter + 1) % 5 == 0 || iter == limit - 1) {
+                printProgress(iter + 1, limit);
+            }
+            if (criteria.stagnated(stagnant)) {
+                reason = StopCriteria.Reason.STAGNATION;
+                break;
+            }
+        }
 
-            for (Map<Integer, Integer> individual : population) {
-                double fitness = evaluate(individual);
-                if (fitness < bestFitness) {
-                    bestFitness = fitness;
-                    bestMapping = new HashMap<>(individual);
+        if (reason != StopCriteria.Reason.MAX_ITERATIONS) {
+            if (iteration % 5 != 0) printProgress(iteration, limit);
+            if (verbose) System.out.println("⏹ Optimasi dihentikan: " + reason);
+        }
+        if (checkpoints != null) {
+            if (checkpoints.lastIteration() != iteration && iteration > start
+                    && (reason == StopCriteria.Reason.CANCELLED || reason == StopCriteria.Reason.DEADLINE)) {
+                checkpoints.flush();
+                BestSolution best = bestSolution;
+                checkpoints.offer(fingerprint, masterSeed, iteration, evaluations, stagnant, best.fitness, best.genome,
+                        population, workload.vmCount());
+            }
+            checkpoints.close();
+            if (verbose) {
+                System.out.println("💾 Checkpoint: " + checkpoints.written() + " ditulis, "
+                        + checkpoints.skipped() + " dilewati (" + checkpointPath + ")");
+            }
+            // A finished run leaves nothing to resume; keeping the file would make the next run start at the end.
+            if (reason != StopCriteria.Reason.CANCELLED && reason != StopCriteria.Reason.DEADLINE) {
+                try {
+                    Files.deleteIfExists(checkpointPath);
+                } catch (IOException e) {
+                    System.err.println("⚠️ Gagal menghapus checkpoint " + checkpointPath + ": " + e);
                 }
             }
+        }
+        for (OptimizationListener listener : listeners) listener.onComplete(reason);
+        long duration = System.currentTimeMillis() - startTime;
+        if (verbose) System.out.println("✅ Optimasi selesai dalam " + (duration / 1000.0) + " detik.");
+        return reason;
+    }
+
+    private void printProgress(int iter, int limit) {
+        if (!verbose) return;
+        if (limit == Integer.MAX_VALUE) {
+            System.out.printf("Iterasi %d → Fitness terbaik: %.4f%n", iter, bestSolution.fitness);
+        } else {
+            System.out.printf("Iterasi %d/%d → Fitness terbaik: %.4f%n", iter, limit, bestSolution.fitness);
+        }
+    }
+
+    private static long deadline(long now, Duration budget, Duration criteriaBudget) {
+        long nanos = Long.MAX_VALUE;
+        if (budget != null) nanos = Math.min(nanos, budget.toNanos());
+        if (criteriaBudget != null) nanos = Math.min(nanos, criteriaBudget.toNanos());
+        return nanos > Long.MAX_VALUE - now ? now + Long.MAX_VALUE / 2 : now + nanos;
+    }
+
+    Individual[] initialPopulation() {
+        List<int[]> seeds;
+        int perturbed;
+        double rate;
+        if (initialMapping != null) {
+            seeds = Collections.singletonList(initialMapping);
+            perturbed = populationSize - 1;
+            rate = 0.05;
+        } else {
+            seeds = populationInit.seeds(workload);
+            perturbed = populationInit.perturbedCount(populationSize, seeds.size());
+            rate = populationInit.perturbationRate();
+        }
+
+        packedPopulation = offHeapPopulation
+                ? new PackedPopulation(populationSize, workload.cloudletCount(), workload.vmCount())
+                : null;
+
+        int seeded = Math.min(seeds.size(), populationSize);
+        Individual[] population = new Individual[populationSize];
+        forEachIndex(populationSize, i -> {
+            if (i < seeded) {
+                population[i] = individualOf(seeds.get(i), blank(i));
+            } else if (i < seeded + perturbed) {
+                population[i] = perturbedMapping(seeds.get((i - seeded) % seeds.size()), rate, random(-1, i), blank(i));
+            } else {
+                population[i] = randomMapping(random(-1, i), blank(i));
+            }
+        });
+        return population;
+    }
+
+    Individual[] nextGeneration(Individual[] current, int generation) {
+        return nextGeneration(current, generation, () -> false);
+    }
+
+    // Returns null when interrupted part-way; the individuals scored so far still update the best solution.
+    private Individual[] nextGeneration(Individual[] current, int generation, BooleanSupplier interrupted) {
+        boolean telemetry = !listeners.isEmpty();
+        long allocatedBefore = 0;
+        if (telemetry) {
+            workerAllocatedBytes.reset();
+            allocationOwner = Thread.currentThread();
+            allocatedBefore = threadAllocatedBytes();
+        }
+        long computationsBefore = fitnessComputations.get();
+        long t0 = System.nanoTime();
+
+        double[] fitness = new double[current.length];
+        Arrays.fill(fitness, Double.NaN);
+        scoreAll(current, fitness, interrupted);
+
+        boolean complete = true;
+        for (double f : fitness) {
+            if (Double.isNaN(f)) complete = false;
+        }
+        if (!complete) {
+            if (telemetry) allocationOwner = null;
+            int best = -1;
+            for (int i = 0; i < fitness.length; i++) {
+                if (!Double.isNaN(fitness[i]) && (best < 0 || fitness[i] < fitness[best])) best = i;
+            }
+            if (best >= 0 && fitness[best] < bestSolution.fitness) {
+                bestSolution = new BestSolution(current[best].genes.toArray(), fitness[best]);
+            }
+            return null;
+        }
+        long t1 = System.nanoTime();
+
+        if (localSearch != null) {
+            int[] elite = IntStream.range(0, fitness.length).boxed()
+                    .sorted(Comparator.comparingDouble(i -> fitness[i]))
+                    .limit(localSearchTopK)
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            forEachIndex(elite.length, k -> {
+                Individual individual = current[elite[k]];
+                fitness[elite[k]] = localSearch.improve(individual, fitness[elite[k]]);
+                individual.setFitness(fitness[elite[k]]);
+            });
+        }
+        long t2 = System.nanoTime();
+
+        int best = bestIndex(fitness);
+        if (fitness[best] < bestSolution.fitness) {
+            bestSolution = new BestSolution(current[best].genes.toArray(), fitness[best]);
+        }
+
+        Individual[] newPopulation = new Individual[populationSize];
+        forEachIndex(populationSize, i -> {
+            if (!interrupted.getAsBoolean()) newPopulation[i] = createSeed(current, random(generation, i), i);
+        });
+        for (Individual seed : newPopulation) {
+            if (seed == null) {
+                if (telemetry) allocationOwner = null;
+                return null;
+            }
+        }
+        evaluations += current.length;
+        if (packedPopulation != null) packedPopulation.swap();
+        long t3 = System.nanoTime();
+
+        if (telemetry) {
+            allocationOwner = null;
+            long allocated = threadAllocatedBytes() - allocatedBefore + workerAllocatedBytes.sum();
+            publish(generation, current, fitness, best, fitnessComputations.get() - computationsBefore,
+                    t1 - t0, t2 - t1, t3 - t2, allocated);
+        }
+        return newPopulation;
+    }
+
+    private void publish(int generation, Individual[] population, double[] fitness, int best, long computations,
+                         long evaluateNanos, long localSearchNanos, long mutationNanos, long allocated) {
+        Set<Long> distinct = new HashSet<>();
+        double sum = 0;
+        for (int i = 0; i < population.length; i++) {
+            distinct.add(population[i].hash);
+            sum += fitness[i];
+        }
+        IterationEvent event = new IterationEvent(generation + 1, bestSolution.fitness, fitness[best], sum / fitness.length,
+                (double) distinct.size() / population.length, evaluations, fitnessComputations.get(),
+                computations, evaluateNanos, localSearchNanos, mutationNanos, rfTableReported ? 0 : rfTableNanos, allocated);
+        rfTableReported = true;
+        for (OptimizationListener listener : listeners) listener.onIteration(event);
+    }
+
+    private static long threadAllocatedBytes() {
+        java.lang.management.ThreadMXBean bean = java.lang.management.ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) return 0;
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+        if (!threads.isThreadAllocatedMemoryEnabled()) return 0;
+        return Math.max(0, threads.getCurrentThreadAllocatedBytes());
+    }
+
+    // Cache lookups and inserts run in slot order around the parallel computation, so hits, evictions and the
+    // values handed out do not depend on thread scheduling.
+    private void scoreAll(Individual[] population, double[] fitness, BooleanSupplier interrupted) {
+        if (fitnessCache == null) {
+            forEachIndex(population.length, i -> {
+                if (!interrupted.getAsBoolean()) fitness[i] = score(population[i]);
+            });
+            return;
+        }
+
+        // source[i]: i scores itself, -1 was answered by the cache, j < i copies slot j (same genome this round).
+        int[] source = new int[population.length];
+        boolean[] insert = new boolean[population.length];
+        Map<Long, Integer> firstDirty = new HashMap<>();
+        for (int i = 0; i < population.length; i++) {
+            Individual individual = population[i];
+            source[i] = i;
+            if (!individual.dirty) continue;
+            Integer first = firstDirty.putIfAbsent(individual.hash, i);
+            if (first != null) {
+                source[i] = first;
+                continue;
+            }
+            Double cached = fitnessCache.get(individual.hash);
+            if (cached != null) {
+                cacheHits.incrementAndGet();
+                individual.setFitness(cached);
+                fitness[i] = cached;
+                source[i] = -1;
+            } else {
+                insert[i] = true;
+            }
+        }
+
+        forEachIndex(population.length, i -> {
+            if (source[i] == i && !interrupted.getAsBoolean()) fitness[i] = score(population[i]);
+        });
+
+        for (int i = 0; i < population.length; i++) {
+            if (insert[i] && !Double.isNaN(fitness[i])) {
+                fitnessCache.put(population[i].hash, fitness[i]);
+            } else if (source[i] >= 0 && source[i] != i && !Double.isNaN(fitness[source[i]])) {
+                cacheHits.incrementAndGet();
+                fitness[i] = fitness[source[i]];
+                population[i].setFitness(fitness[i]);
+            }
+        }
+    }
+
+    private double score(Individual individual) {
+        if (!individual.dirty) {
+            memoHits.incrementAndGet();
+            return individual.fitness;
+        }
+        double fitness = incrementalEvaluation ? fitness(individual) : evaluate(individual.genes);
+        fitnessComputations.incrementAndGet();
+        individual.setFitness(fitness);
+        return fitness;
+    }
+
+    Individual[] fittest(Individual[] population, int count) {
+        double[] fitness = new double[population.length];
+        scoreAll(population, fitness, () -> false);
+        return IntStream.range(0, population.length).boxed()
+                .sorted(Comparator.comparingDouble(i -> fitness[i]))
+                .limit(count)
+                .map(i -> population[i])
+                .toArray(Individual[]::new);
+    }
+
+    Individual individualOf(int[] genome) {
+        return new Individual(genome.clone(), vmLoads(genome));
+    }
+
+    private Individual individualOf(int[] genome, GeneStore target) {
+        target.copyFrom(GeneStore.of(genome));
+        return new Individual(target, vmLoads(target));
+    }
+
+    private long checkpointFingerprint() {
+        long hash = Workload.mix(workload.fingerprint() ^ maxIter);
+        if (baseLoad != null) {
+            for (double load : baseLoad) hash = Workload.mix(hash ^ Double.doubleToLongBits(load));
+        }
+        return hash;
+    }
+
+    private Individual[] restorePopulation(Checkpoint checkpoint) {
+        packedPopulation = offHeapPopulation
+                ? new PackedPopulation(populationSize, workload.cloudletCount(), workload.vmCount())
+                : null;
+        Individual[] population = new Individual[populationSize];
+        forEachIndex(populationSize, i -> {
+            GeneStore genes = blank(i);
+            genes.readFrom(checkpoint.genes[i], checkpoint.width);
+            population[i] = new Individual(genes, checkpoint.loads[i].clone(), checkpoint.fitness[i], checkpoint.dirty[i]);
+        });
+        return population;
+    }
 
-            for (int i = 0; i < populationSize; i++) {
-                Map<Integer, Integer> parent = population.get(rand.nextInt(populationSize));
-                Map<Integer, Integer> seed = new HashMap<>(parent);
+    private GeneStore blank(int slot) {
+        if (packedPopulation != null) return packedPopulation.front(slot);
+        return GeneStore.of(new int[workload.cloudletCount()]);
+    }
 
-                for (Integer cloudletId : seed.keySet()) {
-                    if (rand.nextDouble() < 0.25) { 
-                        int currentVmIndex = seed.get(cloudletId);
+    private Individual createSeed(Individual[] population, SplittableRandom rand, int slot) {
+        Individual parent = population[rand.nextInt(population.length)];
+        Individual seed = packedPopulation == null ? parent.copy() : parent.copyInto(packedPopulation.back(slot));
 
-                        int bestVm = findLeastLoadedVm(seed);
-                        double rfPrediction = randomForest.predict(
-                                new double[]{getCloudletLength(cloudletId) / 1000.0, vms.get(currentVmIndex).getMips() / 1000.0});
+        for (int c = 0; c < seed.genes.length(); c++) {
+            if (rand.nextDouble() < 0.25) { 
+                int currentVmIndex = seed.genes.get(c);
 
-                        if (rfPrediction < 0.5) {
-                            seed.put(cloudletId, bestVm);
-                        }
-                    }
+                int bestVm = findLeastLoadedVm(seed);
+                if (rfAcceptsMove(c, currentVmIndex)) {
+                    move(seed, c, bestVm);
                 }
-                newPopulation.add(seed);
             }
+        }
+        return seed;
+    }
+
+    private boolean rfAcceptsMove(int c, int vm) {
+        if (randomForest.treeCount() == 0) return true;
+        if (rfAcceptsMove == null) {
+            return randomForest.predict(workload.length[c] / 1000.0, workload.mips[vm] / 1000.0) < 0.5;
+        }
+        return rfAcceptsMove.get(workload.vmType[vm] * workload.cloudletCount() + c);
+    }
+
+    private BitSet predictionTable(RandomForest forest) {
+        int n = workload.cloudletCount();
+        int types = workload.vmTypeCount();
+        if (forest.treeCount() == 0 || (long) n * types > Integer.MAX_VALUE) return null;
 
-            population = newPopulation;
+        double[] x0 = new double[n];
+        double[] x1 = new double[n];
+        double[] out = new double[n];
+        for (int c = 0; c < n; c++) x0[c] = workload.length[c] / 1000.0;
 
-            if ((iter + 1) % 5 == 0 || iter == maxIter - 1) {
-                System.out.printf("Iterasi %d/%d → Fitness terbaik: %.4f%n", iter + 1, maxIter, bestFitness);
+        BitSet table = new BitSet(n * types);
+        for (int t = 0; t < types; t++) {
+            Arrays.fill(x1, workload.typeMips[t] / 1000.0);
+            forest.predictAll(x0, x1, out);
+            for (int c = 0; c < n; c++) {
+                if (out[c] < 0.5) table.set(t * n + c);
             }
         }
+        return table;
+    }
 
-        long duration = System.currentTimeMillis() - startTime;
-        System.out.println("✅ Optimasi selesai dalam " + (duration / 1000.0) + " detik.");
+    private SplittableRandom random(int generation, int index) {
+        return new SplittableRandom(masterSeed + 0x9E3779B97F4A7C15L * ((generation + 1L) * populationSize + index + 1));
     }
 
-    public Map<Integer, Integer> getBestMapping() {
-        return bestMapping;
+    private void forEachIndex(int n, IntConsumer task) {
+        if (pool == null) {
+            for (int i = 0; i < n; i++) task.accept(i);
+        } else {
+            Thread owner = allocationOwner;
+            IntConsumer measured = owner == null ? task : i -> {
+                if (Thread.currentThread() == owner) {
+                    task.accept(i);
+                    return;
+                }
+                long before = threadAllocatedBytes();
+                task.accept(i);
+                workerAllocatedBytes.add(threadAllocatedBytes() - before);
+            };
+            pool.submit(() -> IntStream.range(0, n).parallel().forEach(measured)).join();
+        }
+    }
+
+    private static int bestIndex(double[] fitness) {
+        return IntStream.range(0, fitness.length)
+                .reduce((a, b) -> fitness[b] < fitness[a] ? b : a)
+                .orElse(0);
+    }
+
+    public BestSolution getBest() {
+        return bestSolution;
+    }
+
+    public int[] getBestGenome() {
+        return bestSolution.genome;
+    }
+
+    public double getBestFitness() {
+        return bestSolution.fitness;
+    }
+
+    public int getIteration() {
+        return iteration;
+    }
+
+    public long getEvaluations() {
+        return evaluations;
+    }
+
+    public long getFitnessComputations() {
+        return fitnessComputations.get();
+    }
+
+    public long getEvaluationsSaved() {
+        return memoHits.get() + cacheHits.get();
+    }
+
+    public double getCacheHitRate() {
+        long saved = getEvaluationsSaved();
+        long total = saved + fitnessComputations.get();
+        return total == 0 ? 0 : (double) saved / total;
     }
 
-    private Map<Integer, Integer> randomMapping() {
+    public Map<Integer, Integer> getBestMapping() {
+        int[] bestGenome = bestSolution.genome;
+        if (bestGenome == null) return null;
         Map<Integer, Integer> mapping = new HashMap<>();
-        for (Cloudlet c : cloudlets) {
-            mapping.put((int) c.getCloudletId(), rand.nextInt(vms.size()));
+        for (int c = 0; c < bestGenome.length; c++) {
+            mapping.put(workload.cloudletIds[c], bestGenome[c]);
         }
         return mapping;
     }
 
-    private double evaluate(Map<Integer, Integer> mapping) {
-        Map<Integer, List<Cloudlet>> vmToCloudlets = new HashMap<>();
-        for (int i = 0; i < vms.size(); i++) {
-            vmToCloudlets.put(i, new ArrayList<>());
+    private Individual randomMapping(SplittableRandom rand, GeneStore genome) {
+        for (int c = 0; c < genome.length(); c++) {
+            genome.set(c, rand.nextInt(workload.vmCount()));
         }
+        return new Individual(genome, vmLoads(genome));
+    }
 
-        for (Cloudlet c : cloudlets) {
-            int vmIndex = mapping.get((int) c.getCloudletId());
-            vmToCloudlets.get(vmIndex).add(c);
+    private void move(Individual individual, int c, int toVm) {
+        int fromVm = individual.genes.get(c);
+        if (fromVm == toVm) return;
+        individual.move(c, toVm, workload.execTime(c, fromVm), workload.execTime(c, toVm));
+    }
+
+    private Individual perturbedMapping(int[] genome, double rate, SplittableRandom rand, GeneStore perturbed) {
+        perturbed.copyFrom(GeneStore.of(genome));
+        for (int c = 0; c < perturbed.length(); c++) {
+            if (rand.nextDouble() < rate) perturbed.set(c, rand.nextInt(workload.vmCount()));
         }
+        return new Individual(perturbed, vmLoads(perturbed));
+    }
 
-        double[] vmLoad = new double[vms.size()];
-        for (int i = 0; i < vms.size(); i++) {
-            double totalTime = 0;
-            for (Cloudlet c : vmToCloudlets.get(i)) {
-                totalTime += c.getCloudletLength() / vms.get(i).getMips();
-            }
-            vmLoad[i] = totalTime;
+    private double[] vmLoads(int[] genome) {
+        return vmLoads(GeneStore.of(genome));
+    }
+
+    private double[] vmLoads(GeneStore genome) {
+        double[] vmLoad = baseLoad == null ? new double[workload.vmCount()] : baseLoad.clone();
+        for (int c = 0; c < genome.length(); c++) {
+            int vmIndex = genome.get(c);
+            vmLoad[vmIndex] += workload.execTime(c, vmIndex);
         }
+        return vmLoad;
+    }
+
+    double evaluate(int[] genome) {
+        return evaluate(GeneStore.of(genome));
+    }
+
+    private double evaluate(GeneStore genome) {
+        double[] vmLoad = vmLoads(genome);
+        return fitness(vmLoad, Arrays.stream(vmLoad).max().orElse(0));
+    }
 
-        double makespan = Arrays.stream(vmLoad).max().orElse(0);
+    double fitness(Individual individual) {
+        return fitness(individual.loads.loads(), individual.loads.maxLoad());
+    }
+
+    static double fitness(double[] vmLoad, double makespan) {
         double avgLoad = Arrays.stream(vmLoad).average().orElse(0);
 
         double imbalance = 0;
         for (double l : vmLoad) imbalance += Math.abs(l - avgLoad);
-        imbalance /= vms.size();
+        imbalance /= vmLoad.length;
 
-        double totalEnergy = 0;
-        for (double load : vmLoad) totalEnergy += 200 * load * 0.1;
+        double totalLoad = 0;
+        for (double load : vmLoad) totalLoad += load;
 
+        return fitness(makespan, imbalance, totalLoad);
+    }
+
+    static double fitness(double makespan, double imbalance, double totalLoad) {
+        double totalEnergy = 200 * totalLoad * 0.1;
         return makespan * 0.5 + imbalance * 0.35 + totalEnergy * 0.15;
     }
 
-    private int findLeastLoadedVm(Map<Integer, Integer> mapping) {
-        double[] vmLoad = new double[vms.size()];
-        for (Cloudlet c : cloudlets) {
-            int vmIndex = mapping.get((int) c.getCloudletId());
-            vmLoad[vmIndex] += c.getCloudletLength() / vms.get(vmIndex).getMips();
-        }
+    int findLeastLoadedVm(Individual individual) {
+        if (incrementalEvaluation) return individual.loads.leastLoaded();
+        double[] vmLoad = vmLoads(individual.genes);
         int minIndex = 0;
         double minLoad = vmLoad[0];
         for (int i = 1; i < vmLoad.length; i++) {
@@ -134,11 +721,4 @@ public class TreeSeedScheduler {
         }
         return minIndex;
     }
-
-    private double getCloudletLength(int id) {
-        for (Cloudlet c : cloudlets) {
-            if (c.getCloudletId() == id) return c.getCloudletLength();
-        }
-        return 0;
-    }
 }
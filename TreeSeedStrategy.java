@@ -0,0 +1,27 @@
+package simple;
+
+public class TreeSeedStrategy implements SchedulingStrategy {
+
+    private final Long seed;
+
+    public TreeSeedStrategy() {
+        this(null);
+    }
+
+    public TreeSeedStrategy(Long seed) {
+        this.seed = seed;
+    }
+
+    @Override
+    public String name() {
+        return "TSA";
+    }
+
+    @Override
+    public int[] schedule(Workload workload) {
+        TreeSeedScheduler scheduler = new TreeSeedScheduler(workload);
+        if (seed != null) scheduler.setSeed(seed);
+        scheduler.optimizeMapping();
+        return scheduler.getBestGenome();
+    }
+}
@@ -0,0 +1,82 @@
+package simple;
+
+class VmLoadTree {
+
+    private final int leaves;
+    private final double[] load;
+    private final int[] minIndex;
+    private final int[] maxIndex;
+
+    VmLoadTree(double[] load) {
+        int size = 1;
+        while (size < load.length) size <<= 1;
+        this.leaves = size;
+        this.load = load;
+        this.minIndex = new int[2 * size];
+        this.maxIndex = new int[2 * size];
+        for (int i = 0; i < size; i++) {
+            int vm = i < load.length ? i : -1;
+            minIndex[size + i] = vm;
+            maxIndex[size + i] = vm;
+        }
+        for (int node = size - 1; node >= 1; node--) {
+            pull(node);
+        }
+    }
+
+    private VmLoadTree(VmLoadTree other) {
+        this.leaves = other.leaves;
+        this.load = other.load.clone();
+        this.minIndex = other.minIndex.clone();
+        this.maxIndex = other.maxIndex.clone();
+    }
+
+    VmLoadTree copy() {
+        return new VmLoadTree(this);
+    }
+
+    double[] loads() {
+        return load;
+    }
+
+    double get(int vm) {
+        return load[vm];
+    }
+
+    void add(int vm, double delta) {
+        load[vm] += delta;
+        for (int node = (leaves + vm) >> 1; node >= 1; node >>= 1) {
+            pull(node);
+        }
+    }
+
+    int leastLoaded() {
+        return minIndex[1];
+    }
+
+    int mostLoaded() {
+        return maxIndex[1];
+    }
+
+    double maxLoad() {
+        return load[maxIndex[1]];
+    }
+
+    private void pull(int node) {
+        int l = node << 1, r = l | 1;
+        minIndex[node] = pickMin(minIndex[l], minIndex[r]);
+        maxIndex[node] = pickMax(maxIndex[l], maxIndex[r]);
+    }
+
+    private int pickMin(int a, int b) {
+        if (a < 0) return b;
+        if (b < 0) return a;
+        return load[b] < load[a] ? b : a;
+    }
+
+    private int pickMax(int a, int b) {
+        if (a < 0) return b;
+        if (b < 0) return a;
+        return load[b] > load[a] ? b : a;
+    }
+}
@@ -0,0 +1,75 @@
+package simple;
+
+class VmTypeLoads {
+
+    private final Workload workload;
+    private final int[] localIndex;
+    private final int[][] typeVms;
+    private final VmLoadTree[] typeLoads;
+
+    VmTypeLoads(Workload workload) {
+        this.workload = workload;
+        int vmCount = workload.vmCount();
+        int types = workload.vmTypeCount();
+        this.localIndex = new int[vmCount];
+
+        int[] counts = new int[types];
+        for (int v = 0; v < vmCount; v++) localIndex[v] = counts[workload.vmType[v]]++;
+        this.typeVms = new int[types][];
+        this.typeLoads = new VmLoadTree[types];
+        for (int t = 0; t < types; t++) {
+            typeVms[t] = new int[counts[t]];
+            typeLoads[t] = new VmLoadTree(new double[counts[t]]);
+        }
+        for (int v = 0; v < vmCount; v++) typeVms[workload.vmType[v]][localIndex[v]] = v;
+    }
+
+    double get(int vm) {
+        return typeLoads[workload.vmType[vm]].get(localIndex[vm]);
+    }
+
+    void add(int vm, double delta) {
+        typeLoads[workload.vmType[vm]].add(localIndex[vm], delta);
+    }
+
+    double[] loads() {
+        double[] loads = new double[workload.vmCount()];
+        for (int v = 0; v < loads.length; v++) loads[v] = get(v);
+        return loads;
+    }
+
+    int earliestCompletion(double length) {
+        int bestVm = -1;
+        double bestFinish = Double.MAX_VALUE;
+        for (int t = 0; t < typeLoads.length; t++) {
+            VmLoadTree tree = typeLoads[t];
+            int local = tree.leastLoaded();
+            double finish = tree.get(local) + length / workload.typeMips[t];
+            if (finish < bestFinish) {
+                bestFinish = finish;
+                bestVm = typeVms[t][local];
+            }
+        }
+        return bestVm;
+    }
+
+    int leastLoaded() {
+        int bestVm = -1;
+        double bestLoad = Double.MAX_VALUE;
+        for (int t = 0; t < typeLoads.length; t++) {
+            int local = typeLoads[t].leastLoaded();
+            int vm = typeVms[t][local];
+            if (typeLoads[t].get(local) < bestLoad || (typeLoads[t].get(local) == bestLoad && vm < bestVm)) {
+                bestLoad = typeLoads[t].get(local);
+                bestVm = vm;
+            }
+        }
+        return bestVm;
+    }
+
+    double maxLoad() {
+        double max = 0;
+        for (VmLoadTree tree : typeLoads) max = Math.max(max, tree.maxLoad());
+        return max;
+    }
+}
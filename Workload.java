@@ -0,0 +1,119 @@
+package simple;
+
+import java.util.*;
+import java.util.stream.IntStream;
+import org.cloudbus.cloudsim.Cloudlet;
+import org.cloudbus.cloudsim.Vm;
+
+public final class Workload {
+
+    // 4 MB of doubles; larger workloads divide length by mips on the fly instead.
+    private static final long MAX_EXEC_TABLE_ENTRIES = 1L << 19;
+
+    final int[] cloudletIds;
+    final double[] length;
+    final int[] vmIds;
+    final double[] mips;
+    final int[] vmType;
+    final double[] typeMips;
+    private final double[] execByType;
+    private volatile int[] byLength;
+
+    private Workload(int[] cloudletIds, double[] length, int[] vmIds, double[] mips) {
+        this.cloudletIds = cloudletIds;
+        this.length = length;
+        this.vmIds = vmIds;
+        this.mips = mips;
+
+        Map<Double, Integer> types = new LinkedHashMap<>();
+        this.vmType = new int[mips.length];
+        for (int v = 0; v < mips.length; v++) {
+            Integer type = types.get(mips[v]);
+            if (type == null) {
+                type = types.size();
+                types.put(mips[v], type);
+            }
+            vmType[v] = type;
+        }
+        this.typeMips = new double[types.size()];
+        for (Map.Entry<Double, Integer> e : types.entrySet()) {
+            typeMips[e.getValue()] = e.getKey();
+        }
+
+        int n = length.length;
+        if ((long) n * typeMips.length <= MAX_EXEC_TABLE_ENTRIES) {
+            this.execByType = new double[n * typeMips.length];
+            for (int t = 0; t < typeMips.length; t++) {
+                for (int c = 0; c < n; c++) {
+                    execByType[t * n + c] = length[c] / typeMips[t];
+                }
+            }
+        } else {
+            this.execByType = null;
+        }
+    }
+
+    public static Workload of(List<Vm> vms, List<Cloudlet> cloudlets) {
+        int[] cloudletIds = new int[cloudlets.size()];
+        double[] length = new double[cloudlets.size()];
+        for (int c = 0; c < cloudletIds.length; c++) {
+            Cloudlet cloudlet = cloudlets.get(c);
+            cloudletIds[c] = cloudlet.getCloudletId();
+            length[c] = cloudlet.getCloudletLength();
+        }
+
+        int[] vmIds = new int[vms.size()];
+        double[] mips = new double[vms.size()];
+        for (int v = 0; v < vmIds.length; v++) {
+            vmIds[v] = vms.get(v).getId();
+            mips[v] = vms.get(v).getMips();
+        }
+        return new Workload(cloudletIds, length, vmIds, mips);
+    }
+
+    static Workload of(int[] cloudletIds, double[] length, int[] vmIds, double[] mips) {
+        return new Workload(cloudletIds, length, vmIds, mips);
+    }
+
+    public int cloudletCount() {
+        return length.length;
+    }
+
+    public int vmCount() {
+        return mips.length;
+    }
+
+    public int vmTypeCount() {
+        return typeMips.length;
+    }
+
+    long fingerprint() {
+        long hash = mix(length.length) ^ mix(~(long) mips.length);
+        for (double l : length) hash = mix(hash ^ Double.doubleToLongBits(l));
+        for (double m : mips) hash = mix(hash ^ Double.doubleToLongBits(m));
+        return hash;
+    }
+
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    int[] lengthOrder() {
+        int[] order = byLength;
+        if (order == null) {
+            order = IntStream.range(0, length.length).boxed()
+                    .sorted(Comparator.comparingDouble(c -> length[c]))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            byLength = order;
+        }
+        return order;
+    }
+
+    double execTime(int c, int v) {
+        if (execByType == null) return length[c] / mips[v];
+        return execByType[vmType[v] * length.length + c];
+    }
+}
@@ -0,0 +1,54 @@
+package simple;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-Xmx8g"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DatasetBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int cloudlets;
+
+    @Param({"UNIFORM", "LOGNORMAL", "SDSC"})
+    public SyntheticWorkload.Distribution distribution;
+
+    private Path directory;
+    private Path dataset;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("tsa-bench");
+        dataset = directory.resolve("SDSCDataset.txt");
+        try (BufferedWriter out = Files.newBufferedWriter(dataset)) {
+            for (double length : SyntheticWorkload.lengths(distribution, cloudlets, 42L)) {
+                out.write(Long.toString((long) length));
+                out.newLine();
+            }
+        }
+        DatasetLoader.load(dataset.toString());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(DatasetLoader.cachePath(dataset));
+        Files.deleteIfExists(dataset);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public double[] parseText() throws IOException {
+        return DatasetLoader.parseText(dataset);
+    }
+
+    @Benchmark
+    public double[] loadDataset() throws IOException {
+        return TSA.loadDataset(dataset.toString());
+    }
+}
@@ -0,0 +1,49 @@
+package simple;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-Xmx8g"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MetricsBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int cloudlets;
+
+    @Param({"10", "1000", "10000"})
+    public int vms;
+
+    @Param({"UNIFORM", "LOGNORMAL", "SDSC"})
+    public SyntheticWorkload.Distribution distribution;
+
+    private AnalyticSimulator simulator;
+    private int[] genome;
+    private ExecutionTrace trace;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        double[] lengths = SyntheticWorkload.lengths(distribution, cloudlets, 42L);
+        Workload workload = Workload.of(SyntheticWorkload.vms(vms), SyntheticWorkload.cloudlets(lengths));
+        simulator = new AnalyticSimulator(workload);
+
+        SplittableRandom rand = new SplittableRandom(7L);
+        genome = new int[cloudlets];
+        for (int c = 0; c < cloudlets; c++) genome[c] = rand.nextInt(vms);
+        trace = simulator.simulate(genome);
+    }
+
+    @Benchmark
+    public TSA.SimulationResult calculateMetrics() {
+        return TSA.calculateMetrics(trace, vms, cloudlets);
+    }
+
+    @Benchmark
+    public ExecutionTrace analyticSimulation() {
+        return simulator.simulate(genome);
+    }
+}
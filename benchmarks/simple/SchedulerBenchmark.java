@@ -0,0 +1,68 @@
+package simple;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-Xmx8g"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SchedulerBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    public int cloudlets;
+
+    @Param({"10", "1000", "10000"})
+    public int vms;
+
+    @Param({"UNIFORM", "LOGNORMAL", "SDSC"})
+    public SyntheticWorkload.Distribution distribution;
+
+    private Workload workload;
+    private TreeSeedScheduler scheduler;
+    private int[] genome;
+    private Individual individual;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        double[] lengths = SyntheticWorkload.lengths(distribution, cloudlets, 42L);
+        workload = Workload.of(SyntheticWorkload.vms(vms), SyntheticWorkload.cloudlets(lengths));
+        scheduler = new TreeSeedScheduler(workload);
+        scheduler.setSeed(42L);
+
+        SplittableRandom rand = new SplittableRandom(7L);
+        genome = new int[cloudlets];
+        for (int c = 0; c < cloudlets; c++) genome[c] = rand.nextInt(vms);
+        individual = scheduler.individualOf(genome);
+    }
+
+    @Benchmark
+    public double evaluate() {
+        return scheduler.evaluate(genome);
+    }
+
+    @Benchmark
+    public double evaluateIncremental() {
+        return scheduler.fitness(individual);
+    }
+
+    @Benchmark
+    public int findLeastLoadedVm() {
+        return scheduler.findLeastLoadedVm(individual);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 3)
+    public int[] optimizeMapping() {
+        TreeSeedScheduler fresh = new TreeSeedScheduler(workload);
+        fresh.setSeed(42L);
+        fresh.optimizeMapping();
+        return fresh.getBestGenome();
+    }
+}
@@ -0,0 +1,48 @@
+package simple;
+
+import java.util.*;
+import org.cloudbus.cloudsim.Cloudlet;
+import org.cloudbus.cloudsim.Vm;
+
+public final class SyntheticWorkload {
+
+    public enum Distribution { UNIFORM, LOGNORMAL, SDSC }
+
+    private SyntheticWorkload() {
+    }
+
+    static double[] lengths(Distribution distribution, int count, long seed) {
+        SplittableRandom rand = new SplittableRandom(seed);
+        double[] lengths = new double[count];
+        for (int i = 0; i < count; i++) {
+            switch (distribution) {
+                case UNIFORM:
+                    lengths[i] = 1000 + rand.nextInt(99000);
+                    break;
+                case LOGNORMAL:
+                    lengths[i] = Math.ceil(Math.exp(9.2 + 1.2 * gaussian(rand)));
+                    break;
+                default:
+                    // SDSC-style mix: mostly short interactive jobs plus a heavy tail of long batch jobs.
+                    double mu = rand.nextDouble() < 0.7 ? 7.5 : 11.5;
+                    lengths[i] = Math.ceil(Math.min(5e8, Math.exp(mu + 1.6 * gaussian(rand))));
+                    break;
+            }
+        }
+        return lengths;
+    }
+
+    static List<Vm> vms(int count) {
+        return TSA.createVMs(0, count);
+    }
+
+    static List<Cloudlet> cloudlets(double[] lengths) {
+        return TSA.createCloudlets(0, lengths);
+    }
+
+    private static double gaussian(SplittableRandom rand) {
+        double u = 1 - rand.nextDouble();
+        double v = rand.nextDouble();
+        return Math.sqrt(-2 * Math.log(u)) * Math.cos(2 * Math.PI * v);
+    }
+}